@@ -0,0 +1,127 @@
+package com.example.portfolioai.config;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * DB 커넥션 점유 시간 지표.
+ * - db.connection.hold: 커넥션 하나를 빌려서 반납할 때까지 걸린 시간
+ * - db.connection.hold.request: HTTP 요청 하나가 커넥션을 점유한 시간 합계 (uri 패턴별)
+ * 크롤링 같은 네트워크 I/O 가 트랜잭션 안에 들어가면 요청당 점유 시간이 바로 튄다.
+ */
+@Configuration
+public class ConnectionHoldMetricsConfig {
+
+    // 현재 요청 스레드의 점유 시간 누적 (요청 밖 스레드에서는 null)
+    private static final ThreadLocal<long[]> REQUEST_HOLD_NANOS = new ThreadLocal<>();
+
+    @Bean
+    public static BeanPostProcessor connectionHoldDataSourceWrapper(ObjectProvider<MeterRegistry> meters) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource ds && !(bean instanceof HoldTimingDataSource)) {
+                    return new HoldTimingDataSource(ds, meters);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public OncePerRequestFilter connectionHoldRequestFilter(MeterRegistry meters) {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                            @NonNull HttpServletResponse response,
+                                            @NonNull FilterChain chain) throws ServletException, IOException {
+                long[] acc = new long[1];
+                REQUEST_HOLD_NANOS.set(acc);
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    REQUEST_HOLD_NANOS.remove();
+                    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    Timer.builder("db.connection.hold.request")
+                            .description("요청당 DB 커넥션 점유 시간 합계")
+                            .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                            .tag("method", request.getMethod())
+                            .register(meters)
+                            .record(acc[0], TimeUnit.NANOSECONDS);
+                }
+            }
+        };
+    }
+
+    /** getConnection ~ close 구간을 재는 DataSource 래퍼 */
+    static final class HoldTimingDataSource extends DelegatingDataSource {
+        // 여러 스레드가 동시에 커넥션을 반납하므로 생성 시점에 한 번만 등록해 둔다
+        private final Timer holdTimer;
+
+        HoldTimingDataSource(DataSource target, ObjectProvider<MeterRegistry> meters) {
+            super(target);
+            this.holdTimer = Timer.builder("db.connection.hold")
+                    .description("DB 커넥션 대여~반납 시간")
+                    .register(meters.getObject());
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return timed(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return timed(super.getConnection(username, password));
+        }
+
+        private Connection timed(Connection target) {
+            long start = System.nanoTime();
+            long[] acc = REQUEST_HOLD_NANOS.get();
+            boolean[] closed = new boolean[1];
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "equals": return proxy == args[0];
+                            case "hashCode": return System.identityHashCode(proxy);
+                            default: break;
+                        }
+                        if ("close".equals(method.getName()) && !closed[0]) {
+                            closed[0] = true;
+                            long held = System.nanoTime() - start;
+                            holdTimer.record(held, TimeUnit.NANOSECONDS);
+                            if (acc != null) acc[0] += held;
+                        }
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
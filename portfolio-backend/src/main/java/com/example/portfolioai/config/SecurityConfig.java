@@ -32,6 +32,8 @@ public class SecurityConfig {
           .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
           .authorizeHttpRequests(auth -> auth
               .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
+              // SSE 완료 시의 async 재디스패치 (최초 요청에서 이미 인증됨)
+              .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
               .requestMatchers("/error").permitAll()
               .requestMatchers(HttpMethod.POST, "/api/v1/auth/**").permitAll()
               .requestMatchers(HttpMethod.POST, "/api/v1/remodel/debug").permitAll()
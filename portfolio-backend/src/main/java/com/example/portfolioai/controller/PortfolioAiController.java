@@ -1,14 +1,15 @@
 package com.example.portfolioai.controller;
 
-import java.time.Duration;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.portfolioai.dto.GenerateSummaryReq;
 import com.example.portfolioai.dto.GenerateSummaryRes;
@@ -16,6 +17,8 @@ import com.example.portfolioai.service.PortfolioAiService;
 
 import jakarta.validation.Valid;
 
+import reactor.core.publisher.Mono;
+
 @RestController
 @RequestMapping("/api/v1")
 public class PortfolioAiController {
@@ -26,26 +29,43 @@ public class PortfolioAiController {
         this.service = service;
     }
 
+    /**
+     * 요약 생성. 서블릿 스레드를 잡지 않고 Mono 를 그대로 돌려준다 (비동기 응답).
+     * X-Request-Timeout(ms) 로 제한을 줄일 수 있고 (상한 openai.summary-timeout), 넘기면 504. 0 이하면 400.
+     * 응답을 쓰기 전에는 서블릿 컨테이너가 클라이언트 끊김을 알지 못하므로, 끊겨도 OpenAI 요청은
+     * 제한 시간(504)이나 비동기 요청 제한(spring.mvc.async.request-timeout)에 구독이 취소될 때 끊긴다.
+     * 끊기면 바로 멈춰야 하는 경우는 /generate-summary/stream 을 쓴다 (다음 조각을 보낼 때 끊김을 알아챈다).
+     */
     @PostMapping(
         value = "/generate-summary",
         consumes = MediaType.APPLICATION_JSON_VALUE,
         produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<GenerateSummaryRes> generateSummary(@Valid @RequestBody GenerateSummaryReq req) {
-        try {
-            // WebClient -> 동기화
-            GenerateSummaryRes res = service.generate(req).block(Duration.ofSeconds(30));
-            if (res == null) {
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                        .body(new GenerateSummaryRes("요약 생성 실패: 빈 응답"));
-            }
-            return ResponseEntity.ok(res);
-        } catch (Exception e) {
-            String msg = (e.getMessage() == null || e.getMessage().isBlank())
-                    ? "요약 생성 중 오류가 발생했습니다."
-                    : e.getMessage();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new GenerateSummaryRes("요약 생성 실패: " + msg));
-        }
+    public Mono<ResponseEntity<GenerateSummaryRes>> generateSummary(
+            @Valid @RequestBody GenerateSummaryReq req,
+            @RequestHeader(value = "X-Request-Timeout", required = false) Long timeoutMillis) {
+        return service.generate(req, service.deadline(timeoutMillis))
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(new GenerateSummaryRes("요약 생성 실패: 빈 응답")))
+                .onErrorResume(e -> {
+                    boolean timedOut = e instanceof ResponseStatusException rse
+                            && rse.getStatusCode().isSameCodeAs(HttpStatus.GATEWAY_TIMEOUT);
+                    String msg = e instanceof ResponseStatusException rse ? rse.getReason() : e.getMessage();
+                    if (msg == null || msg.isBlank()) msg = "요약 생성 중 오류가 발생했습니다.";
+                    return Mono.just(ResponseEntity
+                            .status(timedOut ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(new GenerateSummaryRes("요약 생성 실패: " + msg)));
+                });
+    }
+
+    /** 생성 중인 요약을 SSE 로: delta → ... → done (또는 error) */
+    @PostMapping(
+        value = "/generate-summary/stream",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    public SseEmitter generateSummaryStream(@Valid @RequestBody GenerateSummaryReq req) {
+        return service.stream(req);
     }
 }
@@ -2,7 +2,7 @@
 package com.example.portfolioai.controller;
 
 import java.util.List;
-import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,21 +10,22 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.portfolioai.dto.PortfolioDocument;
 import com.example.portfolioai.dto.PortfolioSummaryRes;
 import com.example.portfolioai.portfolio.PortfolioEntity;
 import com.example.portfolioai.portfolio.PortfolioRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.portfolioai.service.RemodelMaterializer;
 
 @RestController
 @RequestMapping("/api/v1/portfolios")
 public class PortfolioQueryController {
 
     private final PortfolioRepository repo;
-    private final ObjectMapper mapper;
+    private final RemodelMaterializer materializer;
 
-    public PortfolioQueryController(PortfolioRepository repo, ObjectMapper mapper) {
+    public PortfolioQueryController(PortfolioRepository repo, RemodelMaterializer materializer) {
         this.repo = repo;
-        this.mapper = mapper;
+        this.materializer = materializer;
     }
 
     @GetMapping
@@ -35,21 +36,21 @@ public class PortfolioQueryController {
         String email = auth.getName();
         PortfolioEntity.Kind k = PortfolioEntity.Kind.valueOf(kind.toUpperCase());
 
-        return repo.findByOwnerEmailAndKindOrderByUpdatedAtDesc(email, k)
-                .stream()
-                .map(e -> {
+        List<PortfolioEntity> entities = repo.findByOwnerEmailAndKindOrderByUpdatedAtDesc(email, k);
+        // REMODEL overlay 는 기본 포트폴리오와 합쳐서 (기본 포트폴리오는 한 번에 읽는다, 파싱 실패면 빈 문서)
+        List<RemodelMaterializer.View> views = materializer.views(entities);
 
+        return IntStream.range(0, entities.size())
+                .mapToObj(i -> {
+                    PortfolioEntity e = entities.get(i);
                     String title = "포트폴리오 #" + e.getId();
                     String role = "-";
 
-                    try {
-                        @SuppressWarnings("unchecked")
-                        Map<String,Object> data = mapper.readValue(e.getDataJson(), Map.class);
-                        Object nm = data.get("name");
-                        Object rl = data.get("role");
-                        if (nm != null && !nm.toString().isBlank()) title = nm.toString().trim();
-                        if (rl != null && !rl.toString().isBlank()) role = rl.toString().trim();
-                    } catch (Exception ignore) {}
+                    PortfolioDocument data = views.get(i).doc();
+                    String nm = data.name();
+                    String rl = data.role();
+                    if (nm != null && !nm.isBlank()) title = nm.trim();
+                    if (rl != null && !rl.isBlank()) role = rl.trim();
                     return new PortfolioSummaryRes(
                             e.getId(),
                             e.getKind().name(),
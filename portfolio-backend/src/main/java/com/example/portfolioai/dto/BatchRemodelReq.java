@@ -0,0 +1,34 @@
+// src/main/java/com/example/portfolioai/dto/BatchRemodelReq.java
+package com.example.portfolioai.dto;
+
+import java.util.List;
+
+public class BatchRemodelReq {
+    private long basePortfolioId;   // 선택한 기본 포트폴리오 id (모든 공고에 공통)
+    private List<Posting> postings; // 리모델할 채용공고 목록
+    private String matcher;         // "substring" | "semantic" (없으면 remodel.scoring.matcher)
+
+    public static class Posting {
+        private String sourceType;  // "url" | "text"
+        private String title;       // 공고 타이틀(회사명 등)
+        private String value;       // URL 혹은 공고 전문 텍스트
+
+        public String getSourceType() { return sourceType; }
+        public void setSourceType(String sourceType) { this.sourceType = sourceType; }
+
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+
+        public String getValue() { return value; }
+        public void setValue(String value) { this.value = value; }
+    }
+
+    public long getBasePortfolioId() { return basePortfolioId; }
+    public void setBasePortfolioId(long basePortfolioId) { this.basePortfolioId = basePortfolioId; }
+
+    public List<Posting> getPostings() { return postings; }
+    public void setPostings(List<Posting> postings) { this.postings = postings; }
+
+    public String getMatcher() { return matcher; }
+    public void setMatcher(String matcher) { this.matcher = matcher; }
+}
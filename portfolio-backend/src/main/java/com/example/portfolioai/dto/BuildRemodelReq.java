@@ -6,6 +6,7 @@ public class BuildRemodelReq {
     private String sourceType;      // "url" | "text"
     private String title;           // 공고 타이틀(회사명 등)
     private String value;           // URL 혹은 공고 전문 텍스트
+    private String matcher;         // "substring" | "semantic" (없으면 remodel.scoring.matcher)
 
     public long getBasePortfolioId() { return basePortfolioId; }
     public void setBasePortfolioId(long basePortfolioId) { this.basePortfolioId = basePortfolioId; }
@@ -18,4 +19,7 @@ public class BuildRemodelReq {
 
     public String getValue() { return value; }
     public void setValue(String value) { this.value = value; }
+
+    public String getMatcher() { return matcher; }
+    public void setMatcher(String matcher) { this.matcher = matcher; }
 }
@@ -0,0 +1,163 @@
+// src/main/java/com/example/portfolioai/dto/PortfolioDocument.java
+package com.example.portfolioai.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 저장된 포트폴리오 FE 데이터 (portfolio-frontend/src/types/PortfolioData.ts 와 같은 구조).
+ * data_json 을 Jackson 으로 바로 읽고 쓴다. 목록이 없으면 빈 목록, 값이 없는 필드는 출력하지 않는다.
+ * 여기 없는 FE 필드는 버리지 않고 extra 에 담았다가 그대로 다시 쓴다 (FE 에 필드가 늘어도 저장/리모델에서 잃지 않게).
+ * 리모델 경로에서 요청당 한 번만 파싱해서 읽기 전용으로 공유한다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PortfolioDocument(
+    String name,
+    String role,
+    List<Contact> contacts,
+    String introduction,
+    List<Skill> skills,
+    List<Experience> experiences,
+    List<Project> projects,
+    List<Education> educations,
+    List<Certification> certifications,
+    List<Award> awards,
+    String title,               // 목록에 보일 제목 (없으면 name/role)
+    Map<String, Object> extra   // 모르는 필드 (원래 JSON 값 그대로)
+) implements UnknownFields {
+    public PortfolioDocument {
+        contacts = orEmpty(contacts);
+        skills = orEmpty(skills);
+        experiences = orEmpty(experiences);
+        projects = orEmpty(projects);
+        educations = orEmpty(educations);
+        certifications = orEmpty(certifications);
+        awards = orEmpty(awards);
+        extra = orEmpty(extra);
+    }
+
+    @JsonCreator
+    public PortfolioDocument(@JsonProperty("name") String name, @JsonProperty("role") String role,
+                             @JsonProperty("contacts") List<Contact> contacts, @JsonProperty("introduction") String introduction,
+                             @JsonProperty("skills") List<Skill> skills, @JsonProperty("experiences") List<Experience> experiences,
+                             @JsonProperty("projects") List<Project> projects, @JsonProperty("educations") List<Education> educations,
+                             @JsonProperty("certifications") List<Certification> certifications,
+                             @JsonProperty("awards") List<Award> awards, @JsonProperty("title") String title) {
+        this(name, role, contacts, introduction, skills, experiences, projects, educations, certifications, awards, title,
+                new LinkedHashMap<>());
+    }
+
+    public static final PortfolioDocument EMPTY =
+            new PortfolioDocument(null, null, null, null, null, null, null, null, null, null, null);
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Contact(String type, String value, Map<String, Object> extra) implements UnknownFields {
+        @JsonCreator
+        public Contact(@JsonProperty("type") String type, @JsonProperty("value") String value) {
+            this(type, value, new LinkedHashMap<>());
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Skill(String name, String icon, Map<String, Object> extra) implements UnknownFields {
+        @JsonCreator
+        public Skill(@JsonProperty("name") String name, @JsonProperty("icon") String icon) {
+            this(name, icon, new LinkedHashMap<>());
+        }
+
+        // 예전 데이터: 스킬이 문자열 하나
+        @JsonCreator
+        public static Skill of(String name) {
+            return new Skill(name, "");
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Experience(String company, String period, String position, String description, List<String> techs,
+                             Map<String, Object> extra) implements UnknownFields {
+        @JsonCreator
+        public Experience(@JsonProperty("company") String company, @JsonProperty("period") String period,
+                          @JsonProperty("position") String position, @JsonProperty("description") String description,
+                          @JsonProperty("techs") List<String> techs) {
+            this(company, period, position, description, techs, new LinkedHashMap<>());
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Project(String title, Integer teamSize, String myRole, List<String> contributions,
+                          String description, String link, List<String> techs, List<String> images,
+                          Map<String, Object> extra) implements UnknownFields {
+        public Project {
+            contributions = orEmpty(contributions);
+            techs = orEmpty(techs);
+            images = orEmpty(images);
+        }
+
+        @JsonCreator
+        public Project(@JsonProperty("title") String title, @JsonProperty("teamSize") Integer teamSize,
+                       @JsonProperty("myRole") String myRole, @JsonProperty("contributions") List<String> contributions,
+                       @JsonProperty("description") String description, @JsonProperty("link") String link,
+                       @JsonProperty("techs") List<String> techs, @JsonProperty("images") List<String> images) {
+            this(title, teamSize, myRole, contributions, description, link, techs, images, new LinkedHashMap<>());
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Education(String school, String degree, String major, String start, String end, String description,
+                            Map<String, Object> extra) implements UnknownFields {
+        @JsonCreator
+        public Education(@JsonProperty("school") String school, @JsonProperty("degree") String degree,
+                         @JsonProperty("major") String major, @JsonProperty("start") String start,
+                         @JsonProperty("end") String end, @JsonProperty("description") String description) {
+            this(school, degree, major, start, end, description, new LinkedHashMap<>());
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Certification(String name, String issuer, String date, String expires, String credentialId,
+                                Map<String, Object> extra) implements UnknownFields {
+        @JsonCreator
+        public Certification(@JsonProperty("name") String name, @JsonProperty("issuer") String issuer,
+                             @JsonProperty("date") String date, @JsonProperty("expires") String expires,
+                             @JsonProperty("credentialId") String credentialId) {
+            this(name, issuer, date, expires, credentialId, new LinkedHashMap<>());
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Award(String title, String issuer, String date, String description,
+                        Map<String, Object> extra) implements UnknownFields {
+        @JsonCreator
+        public Award(@JsonProperty("title") String title, @JsonProperty("issuer") String issuer,
+                     @JsonProperty("date") String date, @JsonProperty("description") String description) {
+            this(title, issuer, date, description, new LinkedHashMap<>());
+        }
+    }
+
+    /** 목록 섹션 (RemodelAssembler.ORDERED_SECTIONS 이름) */
+    public List<?> section(String section) {
+        return switch (section) {
+            case "contacts" -> contacts;
+            case "skills" -> skills;
+            case "experiences" -> experiences;
+            case "projects" -> projects;
+            case "educations" -> educations;
+            case "certifications" -> certifications;
+            case "awards" -> awards;
+            default -> throw new IllegalArgumentException("목록 섹션이 아님: " + section);
+        };
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+
+    private static Map<String, Object> orEmpty(Map<String, Object> map) {
+        return map == null ? new LinkedHashMap<>() : map;
+    }
+}
@@ -0,0 +1,14 @@
+// src/main/java/com/example/portfolioai/dto/PortfolioRankRes.java
+package com.example.portfolioai.dto;
+
+import java.util.List;
+
+public record PortfolioRankRes(
+    Long id,
+    String title,
+    String role,
+    double score,               // 스킬 + 프로젝트 매칭 점수 합계 (리모델 정렬과 같은 규칙)
+    double coverage,            // 공고 기술/직무 키워드 가중치 중 매칭된 비율 (0~1)
+    List<String> matchedTerms,  // 점수 기여가 큰 키워드 (최대 5개)
+    String updatedAt
+) {}
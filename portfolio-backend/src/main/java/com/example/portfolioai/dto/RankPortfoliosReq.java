@@ -0,0 +1,17 @@
+// src/main/java/com/example/portfolioai/dto/RankPortfoliosReq.java
+package com.example.portfolioai.dto;
+
+public class RankPortfoliosReq {
+    private String sourceType;      // "url" | "text"
+    private String value;           // URL 혹은 공고 전문 텍스트
+    private String matcher;         // "substring" | "semantic" (없으면 remodel.scoring.matcher)
+
+    public String getSourceType() { return sourceType; }
+    public void setSourceType(String sourceType) { this.sourceType = sourceType; }
+
+    public String getValue() { return value; }
+    public void setValue(String value) { this.value = value; }
+
+    public String getMatcher() { return matcher; }
+    public void setMatcher(String matcher) { this.matcher = matcher; }
+}
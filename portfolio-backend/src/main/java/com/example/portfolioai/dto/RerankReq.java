@@ -0,0 +1,24 @@
+// src/main/java/com/example/portfolioai/dto/RerankReq.java
+package com.example.portfolioai.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class RerankReq {
+    private Map<String, Double> weights; // 키워드(term, 대소문자 무시) → 새 가중치 (0~1, 0 이면 제외)
+    private List<String> drop;           // 제외할 키워드
+    private boolean save;                // true 면 결과를 REMODEL 포트폴리오에 저장 (기본은 미리보기)
+    private String matcher;              // "substring" | "semantic" (없으면 리모델을 만들 때 쓴 것)
+
+    public Map<String, Double> getWeights() { return weights; }
+    public void setWeights(Map<String, Double> weights) { this.weights = weights; }
+
+    public List<String> getDrop() { return drop; }
+    public void setDrop(List<String> drop) { this.drop = drop; }
+
+    public boolean isSave() { return save; }
+    public void setSave(boolean save) { this.save = save; }
+
+    public String getMatcher() { return matcher; }
+    public void setMatcher(String matcher) { this.matcher = matcher; }
+}
@@ -0,0 +1,22 @@
+// src/main/java/com/example/portfolioai/dto/UnknownFields.java
+package com.example.portfolioai.dto;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+
+/**
+ * 모르는 JSON 필드를 extra 에 모았다가 직렬화할 때 제자리로 펼친다 (PortfolioDocument 와 그 항목들).
+ * extra 는 역직렬화하는 동안에만 채우고 그 뒤로는 읽기만 한다.
+ */
+public interface UnknownFields {
+
+    @JsonAnyGetter
+    Map<String, Object> extra();
+
+    @JsonAnySetter
+    default void putExtra(String field, Object value) {
+        extra().put(field, value);
+    }
+}
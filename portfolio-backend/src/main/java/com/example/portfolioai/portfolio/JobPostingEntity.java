@@ -0,0 +1,92 @@
+// src/main/java/com/example/portfolioai/portfolio/JobPostingEntity.java
+package com.example.portfolioai.portfolio;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * 분석이 끝난 채용공고.
+ * 같은 내용(contentHash)이면 URL 이 달라도 한 행으로 합치고, 들어온 URL 들은 정규화해서 별칭으로 남긴다.
+ */
+@Entity
+@Table(name = "job_posting")
+@Access(AccessType.FIELD)
+public class JobPostingEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 처음 들어온 정규화 URL (붙여넣은 텍스트면 null)
+    @Column(name = "canonical_url", length = 2048)
+    private String canonicalUrl;
+
+    // 자격요건/우대사항 섹션 기준 SHA-256
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    // 분석 당시 설정 (택소노미 버전/추출 모드/키워드 추출기). 다르면 재분석
+    @Column(name = "analysis_version", nullable = false, length = 128)
+    private String analysisVersion;
+
+    @Column(name = "sections_json", nullable = false, columnDefinition = "text")
+    private String sectionsJson;
+
+    @Column(name = "keywords_json", nullable = false, columnDefinition = "text")
+    private String keywordsJson;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "job_posting_url",
+            joinColumns = @JoinColumn(name = "posting_id"),
+            uniqueConstraints = @UniqueConstraint(columnNames = "url"))
+    @Column(name = "url", nullable = false, length = 2048)
+    private Set<String> urls = new LinkedHashSet<>();
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public JobPostingEntity() {}
+
+    public Long getId() { return id; }
+
+    public String getCanonicalUrl() { return canonicalUrl; }
+    public void setCanonicalUrl(String canonicalUrl) { this.canonicalUrl = canonicalUrl; }
+
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+
+    public String getAnalysisVersion() { return analysisVersion; }
+    public void setAnalysisVersion(String analysisVersion) { this.analysisVersion = analysisVersion; }
+
+    public String getSectionsJson() { return sectionsJson; }
+    public void setSectionsJson(String sectionsJson) { this.sectionsJson = sectionsJson; }
+
+    public String getKeywordsJson() { return keywordsJson; }
+    public void setKeywordsJson(String keywordsJson) { this.keywordsJson = keywordsJson; }
+
+    public Set<String> getUrls() { return urls; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,15 @@
+package com.example.portfolioai.portfolio;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JobPostingRepository extends JpaRepository<JobPostingEntity, Long> {
+    Optional<JobPostingEntity> findByContentHash(String contentHash);
+
+    // 정규화 URL 별칭으로 조회
+    @Query("select p from JobPostingEntity p join p.urls u where u = :url")
+    Optional<JobPostingEntity> findByUrl(@Param("url") String url);
+}
@@ -20,6 +20,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.example.portfolioai.service.PortfolioFeatureIndex;
+import com.example.portfolioai.service.RemodelMaterializer;
+import com.example.portfolioai.service.RemodelRefreshService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @RestController
@@ -28,10 +32,17 @@ public class PortfolioController {
 
     private final PortfolioRepository repo;
     private final ObjectMapper om;
+    private final RemodelRefreshService remodelRefresh;
+    private final RemodelMaterializer materializer;
+    private final PortfolioFeatureIndex featureIndex;
 
-    public PortfolioController(PortfolioRepository repo, ObjectMapper om) {
+    public PortfolioController(PortfolioRepository repo, ObjectMapper om, RemodelRefreshService remodelRefresh,
+                               RemodelMaterializer materializer, PortfolioFeatureIndex featureIndex) {
         this.repo = repo;
         this.om = om;
+        this.remodelRefresh = remodelRefresh;
+        this.materializer = materializer;
+        this.featureIndex = featureIndex;
     }
 
     @GetMapping("/my")
@@ -39,9 +50,12 @@ public class PortfolioController {
     public List<Map<String, Object>> list(Authentication auth) throws Exception {
         String email = auth.getName();
         List<PortfolioEntity> all = repo.findByOwnerEmailOrderByUpdatedAtDesc(email);
+        // REMODEL overlay 는 기본 포트폴리오와 합쳐서 (기본 포트폴리오는 목록에서, 없으면 한 번에 읽는다)
+        List<RemodelMaterializer.View> views = materializer.views(all);
         List<Map<String, Object>> out = new ArrayList<>();
-        for (PortfolioEntity p : all) {
-            Map<?,?> data = safeRead(p.getDataJson());
+        for (int i = 0; i < all.size(); i++) {
+            PortfolioEntity p = all.get(i);
+            PortfolioDocument data = views.get(i).doc();
             String title = buildTitleFromData(data, p.getId());
             out.add(Map.of(
                 "id", p.getId(),
@@ -62,7 +76,7 @@ public class PortfolioController {
         return Map.of(
             "id", p.getId(),
             "kind", p.getKind().name(),
-            "data", safeRead(p.getDataJson())
+            "data", materializer.read(p)
         );
     }
 
@@ -79,6 +93,7 @@ public class PortfolioController {
         p.setDataJson(om.writeValueAsString(data));
         p.setUpdatedAt(Instant.now());
         repo.save(p);
+        featureIndex.update(p); // 같은 트랜잭션
 
         return Map.of("id", p.getId(), "kind", p.getKind().name(), "data", data);
     }
@@ -95,18 +110,34 @@ public class PortfolioController {
         Object data = body.get("data");
         p.setDataJson(om.writeValueAsString(data));
         p.setUpdatedAt(Instant.now());
+        // 리모델을 직접 고치면 기본 포트폴리오 갱신 대상에서 빠진다 (사용자 수정 보존)
+        if (p.getBasePortfolioId() != null) {
+            p.setBasePortfolioId(null);
+            p.setBaseSectionHashes(null);
+        }
         repo.save(p);
+        featureIndex.update(p); // 같은 트랜잭션
+        // 이 포트폴리오에서 파생된 리모델은 커밋 후 백그라운드에서 갱신
+        remodelRefresh.baseChanged(p.getId());
         return Map.of("ok", true, "id", p.getId());
     }
 
     @DeleteMapping("/{id:\\d+}")
-    public ResponseEntity<Map<String, Object>> deletePortfolio(@PathVariable Long id, Authentication auth) {
+    @Transactional
+    public ResponseEntity<Map<String, Object>> deletePortfolio(@PathVariable Long id, Authentication auth) throws Exception {
         String email = auth.getName();
         PortfolioEntity pf = repo.findById(id)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 포트폴리오"));
         if (!pf.getOwnerEmail().equals(email))
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "삭제 권한이 없습니다.");
+        // 파생 리모델은 남기고 연결만 해제 (overlay 는 지우기 전에 전체 데이터로 풀어 둔다)
+        for (PortfolioEntity remodel : repo.findByBasePortfolioIdAndKind(id, PortfolioEntity.Kind.REMODEL)) {
+            if (materializer.isOverlay(remodel)) remodel.setDataJson(materializer.fullJson(remodel));
+            remodel.setBasePortfolioId(null);
+            remodel.setBaseSectionHashes(null);
+        }
         repo.delete(pf);
+        featureIndex.remove(id);
         return ResponseEntity.ok(Map.of("ok", true, "message", "삭제되었습니다."));
     }
 
@@ -124,23 +155,13 @@ public class PortfolioController {
         ));
         return data;
     }
-    private Map<String,Object> safeRead(String json) {
-        try { 
-            @SuppressWarnings("unchecked")
-            Map<String,Object> result = om.readValue(json, Map.class);
-            return result;
-        }
-        catch (RuntimeException | java.io.IOException e) { return Map.of(); }
-    }
-    private String buildTitleFromData(Map<?,?> data, Long id) {
-        Object title = data.get("title");
-        if (title != null && !title.toString().isBlank()) {
-            return title.toString();
+    private String buildTitleFromData(PortfolioDocument data, Long id) {
+        String title = data.title();
+        if (title != null && !title.isBlank()) {
+            return title;
         }
-        Object name = data.get("name");
-        Object role = data.get("role");
-        String base = (name != null ? name.toString() : "").trim();
-        String sub  = (role != null ? role.toString() : "").trim();
+        String base = (data.name() != null ? data.name() : "").trim();
+        String sub  = (data.role() != null ? data.role() : "").trim();
         return base.isEmpty() && sub.isEmpty()
             ? "포트폴리오 #" + id
             : (base + (sub.isEmpty() ? "" : " - " + sub));
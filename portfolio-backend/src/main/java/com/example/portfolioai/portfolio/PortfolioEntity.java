@@ -39,6 +39,23 @@ public class PortfolioEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    // REMODEL 이 만들어진 채용공고 (job_posting.id). BASIC 이면 null
+    @Column(name = "source_posting_id")
+    private Long sourcePostingId;
+
+    // REMODEL 정렬에 쓴 키워드 세트 (List<Keyword> JSON). 재정렬(rerank)은 이것만으로 한다. BASIC 이면 null
+    @Column(name = "keywords_json", columnDefinition = "text")
+    private String keywordsJson;
+
+    // REMODEL 이 만들어진 BASIC 포트폴리오. 기본이 수정되면 이 리모델을 백그라운드에서 갱신한다.
+    // 리모델을 직접 수정하거나 기본이 삭제되면 null (연결 해제)
+    @Column(name = "base_portfolio_id")
+    private Long basePortfolioId;
+
+    // 마지막으로 반영한 기본 포트폴리오의 섹션별 해시 (Map<섹션, 해시> JSON). 바뀐 섹션만 다시 계산하는 기준
+    @Column(name = "base_section_hashes", columnDefinition = "text")
+    private String baseSectionHashes;
+
     // --- 기본 생성자
     public PortfolioEntity() {}
 
@@ -55,4 +72,16 @@ public class PortfolioEntity {
 
     public Instant getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getSourcePostingId() { return sourcePostingId; }
+    public void setSourcePostingId(Long sourcePostingId) { this.sourcePostingId = sourcePostingId; }
+
+    public String getKeywordsJson() { return keywordsJson; }
+    public void setKeywordsJson(String keywordsJson) { this.keywordsJson = keywordsJson; }
+
+    public Long getBasePortfolioId() { return basePortfolioId; }
+    public void setBasePortfolioId(Long basePortfolioId) { this.basePortfolioId = basePortfolioId; }
+
+    public String getBaseSectionHashes() { return baseSectionHashes; }
+    public void setBaseSectionHashes(String baseSectionHashes) { this.baseSectionHashes = baseSectionHashes; }
 }
\ No newline at end of file
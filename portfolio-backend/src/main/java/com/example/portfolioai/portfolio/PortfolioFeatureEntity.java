@@ -0,0 +1,47 @@
+// src/main/java/com/example/portfolioai/portfolio/PortfolioFeatureEntity.java
+package com.example.portfolioai.portfolio;
+
+import java.time.Instant;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 포트폴리오 매칭용 특징 인덱스 (PortfolioFeatures JSON).
+ * 포트폴리오 저장과 같은 트랜잭션에서 갱신하고, 순위 계산은 data_json 대신 이 행만 읽는다.
+ */
+@Entity
+@Table(name = "portfolio_feature")
+@Access(AccessType.FIELD)
+public class PortfolioFeatureEntity {
+
+    // portfolio.id 와 같은 값
+    @Id
+    @Column(name = "portfolio_id")
+    private Long portfolioId;
+
+    // 특징을 만든 시점의 portfolio.updated_at. 다르면 오래된 것
+    @Column(name = "portfolio_updated_at", nullable = false)
+    private Instant portfolioUpdatedAt;
+
+    @Column(name = "features_json", nullable = false, columnDefinition = "text")
+    private String featuresJson;
+
+    public PortfolioFeatureEntity() {}
+
+    public PortfolioFeatureEntity(Long portfolioId) {
+        this.portfolioId = portfolioId;
+    }
+
+    public Long getPortfolioId() { return portfolioId; }
+
+    public Instant getPortfolioUpdatedAt() { return portfolioUpdatedAt; }
+    public void setPortfolioUpdatedAt(Instant portfolioUpdatedAt) { this.portfolioUpdatedAt = portfolioUpdatedAt; }
+
+    public String getFeaturesJson() { return featuresJson; }
+    public void setFeaturesJson(String featuresJson) { this.featuresJson = featuresJson; }
+}
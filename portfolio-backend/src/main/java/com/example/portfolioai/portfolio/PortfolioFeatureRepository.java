@@ -0,0 +1,6 @@
+package com.example.portfolioai.portfolio;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PortfolioFeatureRepository extends JpaRepository<PortfolioFeatureEntity, Long> {
+}
@@ -14,4 +14,13 @@ public interface PortfolioRepository extends JpaRepository<PortfolioEntity, Long
         String ownerEmail,
         PortfolioEntity.Kind kind
     );
+
+    // 특징 인덱스 확인용 (data_json 은 읽지 않는다)
+    List<PortfolioVersionView> findVersionsByOwnerEmailAndKindOrderByUpdatedAtDesc(
+        String ownerEmail,
+        PortfolioEntity.Kind kind
+    );
+
+    // 기본 포트폴리오에서 파생된 리모델들
+    List<PortfolioEntity> findByBasePortfolioIdAndKind(Long basePortfolioId, PortfolioEntity.Kind kind);
 }
\ No newline at end of file
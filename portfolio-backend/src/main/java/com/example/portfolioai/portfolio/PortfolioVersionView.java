@@ -0,0 +1,9 @@
+package com.example.portfolioai.portfolio;
+
+import java.time.Instant;
+
+// data_json 없이 id/updatedAt 만 읽는 프로젝션
+public interface PortfolioVersionView {
+    Long getId();
+    Instant getUpdatedAt();
+}
@@ -0,0 +1,135 @@
+// src/main/java/com/example/portfolioai/service/JobPostingStore.java
+package com.example.portfolioai.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.portfolioai.dto.JobReqPref;
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.portfolio.JobPostingEntity;
+import com.example.portfolioai.portfolio.JobPostingRepository;
+import com.example.portfolioai.service.PostingAnalysisCache.PostingAnalysis;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 채용공고 분석 결과 영속 저장소 (job_posting).
+ * - URL(정규화) 별칭으로 찾으면 크롤링 없이 저장된 분석을 쓴다.
+ * - 섹션 내용 해시로 찾으면 키워드 추출을 건너뛴다.
+ * - 같은 내용이 다른 URL 로 들어오면 별칭만 추가한다.
+ */
+@Service
+public class JobPostingStore {
+    private static final Logger logger = LoggerFactory.getLogger(JobPostingStore.class);
+
+    /** 저장된(또는 방금 저장한) 공고. 저장에 실패했으면 id 는 null */
+    public record StoredPosting(Long id, PostingAnalysis analysis) {}
+
+    private final JobPostingRepository repo;
+    private final ObjectMapper om;
+
+    public JobPostingStore(JobPostingRepository repo, ObjectMapper om) {
+        this.repo = repo;
+        this.om = om;
+    }
+
+    /** 섹션 내용 기준 해시 (공백 차이는 추출 단계에서 이미 정리됨) */
+    public static String contentHash(JobReqPref sections) {
+        StringBuilder sb = new StringBuilder(256);
+        for (String r : sections.getRequired()) sb.append(r).append('\n');
+        sb.append('\u0000');
+        for (String p : sections.getPreferred()) sb.append(p).append('\n');
+        return PostingAnalysisCache.key(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 정규화 URL 로 저장된 분석. 분석 설정이 같고 maxAge 안에 갱신된 것만. */
+    @Transactional(readOnly = true)
+    public Optional<StoredPosting> findByUrl(String canonicalUrl, String analysisVersion, Duration maxAge) {
+        Instant cutoff = Instant.now().minus(maxAge);
+        return repo.findByUrl(canonicalUrl)
+                .filter(e -> analysisVersion.equals(e.getAnalysisVersion()))
+                .filter(e -> e.getUpdatedAt().isAfter(cutoff))
+                .flatMap(this::toStored);
+    }
+
+    /** 섹션 해시로 저장된 분석 (분석 설정이 같은 것만) */
+    @Transactional(readOnly = true)
+    public Optional<StoredPosting> findByContentHash(String contentHash, String analysisVersion) {
+        return repo.findByContentHash(contentHash)
+                .filter(e -> analysisVersion.equals(e.getAnalysisVersion()))
+                .flatMap(this::toStored);
+    }
+
+    /**
+     * 분석 결과 저장/병합. 호출 트랜잭션과 분리해서 커밋한다 (저장 실패가 리모델 저장을 롤백시키지 않도록).
+     * canonicalUrl 이 다른 공고의 별칭이었으면 (공고 내용이 바뀐 경우) 이 공고로 옮긴다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long save(String canonicalUrl, String analysisVersion, PostingAnalysis analysis) {
+        String hash = contentHash(analysis.sections());
+        Instant now = Instant.now();
+
+        JobPostingEntity entity = repo.findByContentHash(hash).orElse(null);
+        boolean dirty = false;
+        if (entity == null) {
+            entity = new JobPostingEntity();
+            entity.setContentHash(hash);
+            entity.setCanonicalUrl(canonicalUrl);
+            entity.setCreatedAt(now);
+            dirty = true;
+        }
+        if (entity.getId() == null || !analysisVersion.equals(entity.getAnalysisVersion())) {
+            entity.setAnalysisVersion(analysisVersion);
+            entity.setSectionsJson(write(analysis.sections()));
+            entity.setKeywordsJson(write(analysis.keywords()));
+            dirty = true;
+        }
+        if (canonicalUrl != null) {
+            if (!entity.getUrls().contains(canonicalUrl)) {
+                JobPostingEntity previousOwner = repo.findByUrl(canonicalUrl).orElse(null);
+                if (previousOwner != null && previousOwner != entity) {
+                    previousOwner.getUrls().remove(canonicalUrl);
+                    repo.saveAndFlush(previousOwner);
+                }
+                entity.getUrls().add(canonicalUrl);
+            }
+            // 크롤링해서 확인한 시점 → URL 재사용 기간 갱신
+            dirty = true;
+        }
+        if (!dirty) return entity.getId();
+
+        entity.setUpdatedAt(now);
+        JobPostingEntity saved = repo.save(entity);
+        logger.info("채용공고 저장: id = {}, url = {}, 별칭 {}개", saved.getId(), canonicalUrl, saved.getUrls().size());
+        return saved.getId();
+    }
+
+    private Optional<StoredPosting> toStored(JobPostingEntity e) {
+        try {
+            JobReqPref sections = om.readValue(e.getSectionsJson(), JobReqPref.class);
+            List<Keyword> keywords = om.readValue(e.getKeywordsJson(), new TypeReference<List<Keyword>>() {});
+            return Optional.of(new StoredPosting(e.getId(), new PostingAnalysis(sections, keywords)));
+        } catch (JsonProcessingException ex) {
+            logger.warn("저장된 공고 분석 읽기 실패: id = {}, 에러 = {}", e.getId(), ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return om.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("공고 분석 직렬화 실패", e);
+        }
+    }
+}
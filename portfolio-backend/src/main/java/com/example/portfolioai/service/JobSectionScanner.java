@@ -0,0 +1,152 @@
+// src/main/java/com/example/portfolioai/service/JobSectionScanner.java
+package com.example.portfolioai.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.portfolioai.dto.JobReqPref;
+
+/**
+ * 공고 텍스트 → 자격요건/우대사항 섹션 분류기.
+ * 글머리표 표준화, 줄바꿈 분리, 헤더 판별을 문자 단위 한 번의 스캔으로 처리한다.
+ * 헤더/패턴 판별은 전부 하나의 오토마톤에서 플래그로 모아서 본다.
+ */
+public final class JobSectionScanner {
+
+    public static final int MAX_ITEMS = 15;
+
+    // 줄 플래그
+    static final int REQ_HDR = 1;        // 자격요건 헤더
+    static final int PREF_HDR = 1 << 1;  // 우대사항 헤더
+    static final int STOP_HDR = 1 << 2;  // 추출 중단 헤더
+    static final int YEAR = 1 << 3;      // "년"
+    static final int NEED = 1 << 4;      // 경험/필요/요구
+    static final int PREF_HINT = 1 << 5; // 우대/선호/좋아요/환영
+
+    private static final KeywordAutomaton MATCHER;
+    private static final int[] PATTERN_FLAGS;
+
+    static {
+        // 정규식 Requirements? / Responsibilities? 는 각각 "Requirement" / "Responsibilitie" 포함 여부와 같다
+        Map<String, Integer> flags = new LinkedHashMap<>();
+        for (String p : new String[] { "자격요건", "지원자격", "필수요건", "필수조건", "Requirement", "Required", "자격", "요건" }) {
+            flags.merge(p, REQ_HDR, (a, b) -> a | b);
+        }
+        for (String p : new String[] { "우대사항", "우대조건", "가산점", "Preferred", "Nice to have", "우대", "선호" }) {
+            flags.merge(p, PREF_HDR, (a, b) -> a | b);
+        }
+        for (String p : new String[] { "주요업무", "담당업무", "근무조건", "전형절차", "복리후생", "회사소개", "About",
+                "Responsibilitie", "업무내용", "근무환경", "지원방법" }) {
+            flags.merge(p, STOP_HDR, (a, b) -> a | b);
+        }
+        flags.merge("년", YEAR, (a, b) -> a | b);
+        for (String p : new String[] { "경험", "필요", "요구" }) flags.merge(p, NEED, (a, b) -> a | b);
+        for (String p : new String[] { "우대", "선호", "좋아요", "환영" }) flags.merge(p, PREF_HINT, (a, b) -> a | b);
+
+        MATCHER = KeywordAutomaton.of(new ArrayList<>(flags.keySet()));
+        PATTERN_FLAGS = flags.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private JobSectionScanner() {}
+
+    public static JobReqPref scan(CharSequence text) {
+        List<String> req = new ArrayList<>();
+        List<String> pref = new ArrayList<>();
+        StringBuilder line = new StringBuilder(128);
+        int state = MATCHER.root();
+        int flags = 0;
+        int mode = 0; // 0 none, 1 req, 2 pref
+
+        int n = text.length();
+        for (int i = 0; i <= n; i++) {
+            char c = i < n ? text.charAt(i) : '\n';
+            if (c == '\n' || c == '\r') {
+                mode = endLine(line, flags, mode, req, pref);
+                line.setLength(0);
+                state = MATCHER.root();
+                flags = 0;
+                // 양쪽 다 다 찼으면 이후 줄은 결과에 영향이 없다
+                if (req.size() >= MAX_ITEMS && pref.size() >= MAX_ITEMS) break;
+                continue;
+            }
+            if (isBullet(c)) {
+                // 글머리표 표준화: "- "
+                line.append('-').append(' ');
+                state = MATCHER.next(state, '-');
+                flags |= flagsAt(state);
+                state = MATCHER.next(state, ' ');
+            } else {
+                line.append(c);
+                state = MATCHER.next(state, c);
+            }
+            flags |= flagsAt(state);
+        }
+        return new JobReqPref(req, pref);
+    }
+
+    /** 한 줄 분류. 다음 줄에 적용될 mode 를 돌려준다. */
+    private static int endLine(StringBuilder line, int flags, int mode, List<String> req, List<String> pref) {
+        int start = 0, end = line.length();
+        while (start < end && line.charAt(start) <= ' ') start++;
+        while (end > start && line.charAt(end - 1) <= ' ') end--;
+        if (start == end) return mode;
+
+        // 헤더 줄은 모드만 바꾸고 항목으로 넣지 않는다 (자격요건 > 우대사항 > 중단 순)
+        if ((flags & REQ_HDR) != 0) return 1;
+        if ((flags & PREF_HDR) != 0) return 2;
+        if ((flags & STOP_HDR) != 0) return 0;
+
+        // 헤더가 없을 때 내용으로 섹션 추정
+        if (mode == 0) {
+            if ((flags & YEAR) != 0 && (flags & NEED) != 0) mode = 1;
+            else if ((flags & PREF_HINT) != 0) mode = 2;
+        }
+        if (mode == 0) return mode;
+
+        List<String> target = mode == 1 ? req : pref;
+        if (target.size() >= MAX_ITEMS) return mode;
+
+        String item = toItem(line, start, end);
+        if (item != null) target.add(item);
+        return mode;
+    }
+
+    /** 줄 하나에 걸리는 헤더/패턴 플래그 */
+    static int classify(CharSequence line) {
+        int state = MATCHER.root();
+        int flags = 0;
+        for (int i = 0; i < line.length(); i++) {
+            state = MATCHER.next(state, line.charAt(i));
+            flags |= flagsAt(state);
+        }
+        return flags;
+    }
+
+    /** 앞쪽 글머리표/공백 제거 후 trim. 5자 이하이거나 공백뿐이면 null */
+    static String toItem(CharSequence line, int start, int end) {
+        int s = start;
+        while (s < end && isLeadingJunk(line.charAt(s))) s++;
+        while (s < end && line.charAt(s) <= ' ') s++;
+        while (end > s && line.charAt(end - 1) <= ' ') end--;
+        if (end - s <= 5) return null; // 최소 길이 5자 초과
+        String item = line.subSequence(s, end).toString();
+        return item.isBlank() ? null : item;
+    }
+
+    private static int flagsAt(int state) {
+        int f = 0;
+        for (int id : MATCHER.outputs(state)) f |= PATTERN_FLAGS[id];
+        return f;
+    }
+
+    private static boolean isBullet(char c) {
+        return c == '•' || c == '‣' || c == '▪' || c == '▶' || c == '▸' || c == '·' || c == 'ㆍ';
+    }
+
+    // [-\s•‣▪▶▸·ㆍ]
+    private static boolean isLeadingJunk(char c) {
+        return c == '-' || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r' || isBullet(c);
+    }
+}
@@ -0,0 +1,148 @@
+// src/main/java/com/example/portfolioai/service/JsonLdPostingExtractor.java
+package com.example.portfolioai.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.portfolioai.dto.JobReqPref;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * schema.org JobPosting (script type="application/ld+json") 추출. 사이트 무관.
+ * 사람인/잡코리아 등은 description 에 공고 본문 HTML 을 통째로 넣어 두므로
+ * description 조각만 구조 기반으로 섹션을 나누고, 없으면 qualifications/experienceRequirements 등을 자격요건으로 쓴다.
+ */
+@Component
+@Order(100)
+public class JsonLdPostingExtractor implements StructuredPostingExtractor {
+    private static final Logger logger = LoggerFactory.getLogger(JsonLdPostingExtractor.class);
+
+    private static final String DESCRIPTION = "description";
+    // 자격요건으로 쓰는 필드 (순서대로)
+    private static final List<String> REQUIRED_FIELDS = List.of("qualifications", "experienceRequirements", "educationRequirements", "skills");
+    private static final Set<String> INTERESTING = Set.of(DESCRIPTION, "qualifications", "experienceRequirements", "educationRequirements", "skills");
+
+    /** JSON 객체 하나 (배열은 프레임을 만들지 않고 바깥 객체의 필드 값으로 모은다) */
+    private static final class Frame {
+        boolean jobPosting;
+        final Map<String, List<String>> values = new HashMap<>();
+    }
+
+    private final JsonFactory json = new JsonFactory();
+
+    @Override
+    public String name() {
+        return "json-ld";
+    }
+
+    @Override
+    public boolean supports(String host) {
+        return true;
+    }
+
+    @Override
+    public Optional<JobReqPref> extract(String host, String html) {
+        for (String body : StructuredPostingExtractor.scriptBodies(html, "application/ld+json")) {
+            try {
+                Optional<JobReqPref> rp = parse(body);
+                if (rp.isPresent()) return rp;
+            } catch (IOException e) {
+                logger.debug("JSON-LD 파싱 실패: {}", e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<JobReqPref> parse(String body) throws IOException {
+        Deque<Frame> stack = new ArrayDeque<>();
+        try (JsonParser p = json.createParser(body)) {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                if (t == JsonToken.START_OBJECT) {
+                    stack.push(new Frame());
+                } else if (t == JsonToken.END_OBJECT) {
+                    Frame f = stack.pop();
+                    if (f.jobPosting) {
+                        JobReqPref rp = toSections(f);
+                        if (!rp.getRequired().isEmpty() || !rp.getPreferred().isEmpty()) return Optional.of(rp);
+                    }
+                } else if (t == JsonToken.VALUE_STRING && !stack.isEmpty()) {
+                    JsonStreamContext ctx = p.getParsingContext();
+                    String field = ctx.inArray() ? ctx.getParent().getCurrentName() : p.currentName();
+                    if (field == null) continue;
+                    Frame top = stack.peek();
+                    if ("@type".equals(field)) {
+                        if ("JobPosting".equals(p.getText())) top.jobPosting = true;
+                    } else if (INTERESTING.contains(field)) {
+                        top.values.computeIfAbsent(field, k -> new ArrayList<>(1)).add(p.getText());
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static JobReqPref toSections(Frame f) {
+        List<String> descriptions = f.values.get(DESCRIPTION);
+        JobReqPref fromDescription = descriptions == null ? null : fromDescription(String.join("\n", descriptions));
+
+        List<String> req = new ArrayList<>();
+        List<String> pref = new ArrayList<>();
+        if (fromDescription != null) {
+            req.addAll(fromDescription.getRequired());
+            pref.addAll(fromDescription.getPreferred());
+        }
+        // 본문에서 자격요건을 못 찾았으면 스키마 필드로 채운다
+        if (req.isEmpty()) {
+            for (String field : REQUIRED_FIELDS) {
+                for (String v : f.values.getOrDefault(field, List.of())) addFieldItems(v, req);
+            }
+        }
+        return new JobReqPref(req, pref);
+    }
+
+    /** description(HTML 또는 줄바꿈 텍스트) 조각에서 섹션 추출 */
+    private static JobReqPref fromDescription(String description) {
+        String text = description.contains("&lt;") ? Parser.unescapeEntities(description, false) : description;
+        if (text.indexOf('<') >= 0) {
+            return PostingSectionExtractor.extract(Jsoup.parseBodyFragment(text).body());
+        }
+        return JobSectionScanner.scan(text);
+    }
+
+    private static void addFieldItems(String value, List<String> out) {
+        if (value.indexOf('<') < 0 && !value.contains("&lt;")) {
+            StructuredPostingExtractor.addItems(value, out);
+            return;
+        }
+        Element body = Jsoup.parseBodyFragment(Parser.unescapeEntities(value, false)).body();
+        List<Element> items = body.select("li");
+        if (items.isEmpty()) {
+            StructuredPostingExtractor.addItems(body.wholeText(), out);
+            return;
+        }
+        for (Element li : items) {
+            if (out.size() >= JobSectionScanner.MAX_ITEMS) break;
+            String item = JobSectionScanner.toItem(li.text(), 0, li.text().length());
+            if (item != null) out.add(item);
+        }
+    }
+}
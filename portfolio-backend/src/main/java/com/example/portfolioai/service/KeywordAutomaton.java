@@ -0,0 +1,188 @@
+// src/main/java/com/example/portfolioai/service/KeywordAutomaton.java
+package com.example.portfolioai.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 다중 패턴 매칭기 (Aho-Corasick).
+ * 패턴 전체를 한 번만 컴파일해 두고, 텍스트를 한 번 훑으면서 모든 패턴 출현을 찾는다.
+ * 대소문자는 ASCII 범위에서만 무시한다 (정규식 CASE_INSENSITIVE 와 동일한 규칙).
+ */
+public final class KeywordAutomaton {
+
+    /** 매칭 콜백. end 는 마지막 문자의 다음 위치(exclusive). */
+    @FunctionalInterface
+    public interface MatchHandler {
+        void onMatch(int patternId, int start, int end);
+    }
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final char[][] edgeChars;    // 노드별 정렬된 전이 문자
+    private final int[][] edgeTargets;   // 노드별 전이 대상
+    private final int[] fail;
+    private final int[][] outputs;       // 노드에서 끝나는 패턴 id (suffix 링크 포함)
+    private final int[] patternLengths;
+    private final boolean[] wordStart;   // 패턴이 단어 문자로 시작하는지
+    private final boolean[] wordEnd;     // 패턴이 단어 문자로 끝나는지
+
+    private KeywordAutomaton(List<String> patterns) {
+        // 1) trie 구성
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> own = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        own.add(new ArrayList<>());
+
+        patternLengths = new int[patterns.size()];
+        wordStart = new boolean[patterns.size()];
+        wordEnd = new boolean[patterns.size()];
+        for (int id = 0; id < patterns.size(); id++) {
+            String p = patterns.get(id);
+            int node = 0;
+            for (int i = 0; i < p.length(); i++) {
+                char c = fold(p.charAt(i));
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(c, next);
+                    trie.add(new TreeMap<>());
+                    own.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            own.get(node).add(id);
+            patternLengths[id] = p.length();
+            wordStart[id] = !p.isEmpty() && isWordChar(p.charAt(0));
+            wordEnd[id] = !p.isEmpty() && isWordChar(p.charAt(p.length() - 1));
+        }
+
+        int n = trie.size();
+        edgeChars = new char[n][];
+        edgeTargets = new int[n][];
+        for (int node = 0; node < n; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            char[] cs = new char[edges.size()];
+            int[] ts = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> e : edges.entrySet()) {
+                cs[i] = e.getKey();
+                ts[i] = e.getValue();
+                i++;
+            }
+            edgeChars[node] = cs;
+            edgeTargets[node] = ts;
+        }
+
+        // 2) BFS 로 failure 링크 + 출력 병합
+        fail = new int[n];
+        outputs = new int[n][];
+        outputs[0] = toArray(own.get(0), NO_OUTPUT);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int t : edgeTargets[0]) {
+            fail[t] = 0;
+            queue.add(t);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            outputs[node] = toArray(own.get(node), outputs[fail[node]]);
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+                int f = fail[node];
+                while (f != 0 && child(f, c) < 0) f = fail[f];
+                int fc = child(f, c);
+                fail[child] = (fc >= 0 && fc != child) ? fc : 0;
+                queue.add(child);
+            }
+        }
+    }
+
+    public static KeywordAutomaton of(List<String> patterns) {
+        return new KeywordAutomaton(List.copyOf(patterns));
+    }
+
+    public int patternCount() { return patternLengths.length; }
+
+    /** 시작 상태 */
+    public int root() { return 0; }
+
+    /** 한 글자 전이. 호출자가 상태를 들고 직접 문자를 흘려보낼 때 사용. */
+    public int next(int state, char c) {
+        char f = fold(c);
+        while (true) {
+            int t = child(state, f);
+            if (t >= 0) return t;
+            if (state == 0) return 0;
+            state = fail[state];
+        }
+    }
+
+    /** 해당 상태에서 끝나는 패턴 id 목록 (읽기 전용) */
+    int[] outputs(int state) { return outputs[state]; }
+
+    /**
+     * 텍스트 전체를 한 번 스캔한다.
+     * wordBoundaries 가 true 이면 영숫자로 시작/끝나는 패턴은 앞뒤가 영숫자가 아닐 때만 매칭으로 인정한다.
+     * (한글은 조사가 붙으므로 경계 검사를 하지 않는다: "백엔드를", "Java로" 모두 매칭)
+     */
+    public void scan(CharSequence text, boolean wordBoundaries, MatchHandler handler) {
+        int state = 0;
+        int len = text.length();
+        for (int i = 0; i < len; i++) {
+            state = next(state, text.charAt(i));
+            int[] out = outputs[state];
+            for (int id : out) {
+                int end = i + 1;
+                int start = end - patternLengths[id];
+                if (wordBoundaries) {
+                    if (wordStart[id] && start > 0 && isWordChar(text.charAt(start - 1))) continue;
+                    if (wordEnd[id] && end < len && isWordChar(text.charAt(end))) continue;
+                }
+                handler.onMatch(id, start, end);
+            }
+        }
+    }
+
+    /** 경계 검사 없이 패턴이 하나라도 포함되어 있는지 */
+    public boolean containsAny(CharSequence text) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (outputs[state].length > 0) return true;
+        }
+        return false;
+    }
+
+    private int child(int node, char c) {
+        char[] cs = edgeChars[node];
+        int lo = 0, hi = cs.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char m = cs[mid];
+            if (m < c) lo = mid + 1;
+            else if (m > c) hi = mid - 1;
+            else return edgeTargets[node][mid];
+        }
+        return -1;
+    }
+
+    private static int[] toArray(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) return inherited;
+        int[] out = new int[own.size() + inherited.length];
+        for (int i = 0; i < own.size(); i++) out[i] = own.get(i);
+        System.arraycopy(inherited, 0, out, own.size(), inherited.length);
+        return out;
+    }
+
+    static char fold(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
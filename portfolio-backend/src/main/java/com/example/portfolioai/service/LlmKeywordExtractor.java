@@ -0,0 +1,286 @@
+// src/main/java/com/example/portfolioai/service/LlmKeywordExtractor.java
+package com.example.portfolioai.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.portfolioai.dto.JobReqPref;
+import com.example.portfolioai.dto.Keyword;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * LLM 키워드 추출 (Responses API + JSON 스키마 구조화 출력) 과 규칙 기반 추출의 경주.
+ * - LLM 호출을 먼저 보내고, 기다리는 동안 호출 스레드에서 규칙 기반 추출을 한다.
+ * - LLM 결과가 deadline 안에 오면 그것을, 아니면 규칙 기반 결과를 임시(provisional)로 돌려준다.
+ *   늦게 온 LLM 결과는 공고 섹션 해시 기준으로 보관했다가 같은 공고의 다음 요청에 쓴다.
+ * - 같은 공고의 LLM 호출이 이미 진행 중이면 새로 보내지 않고 그 결과를 기다린다.
+ * - LLM 호출이 실패하면 규칙 기반 결과가 최종 결과다 (다시 부르지 않도록).
+ * 주소는 openai.base-url 이라 로컬 스텁 서버로 바꿔서 시험할 수 있다.
+ */
+@Service
+public class LlmKeywordExtractor {
+    private static final Logger logger = LoggerFactory.getLogger(LlmKeywordExtractor.class);
+
+    // 응답 하나에서 받는 키워드 수 / 키워드 길이 상한
+    static final int MAX_KEYWORDS = 40;
+    static final int MAX_TERM_LENGTH = 60;
+
+    public enum Source { LLM, LLM_CACHED, RULES, RULES_PENDING }
+
+    /** 추출 결과. RULES_PENDING 이면 LLM 결과가 아직 안 온 임시 결과라 저장/캐시하면 안 된다 */
+    public record Extraction(List<Keyword> keywords, Source source) {
+        public boolean provisional() {
+            return source == Source.RULES_PENDING;
+        }
+    }
+
+    private static final String SYSTEM_PROMPT = """
+            당신은 채용공고에서 포트폴리오 매칭용 키워드를 뽑는 분석기입니다.
+            규칙:
+            - 자격요건/우대사항에 실제로 나온 기술, 역할, 도메인만 뽑습니다. 추측 금지.
+            - term 은 공고에 쓰인 대표 표기(예: Spring Boot, Kubernetes, 백엔드)로 짧게 씁니다.
+            - weight 는 0~1. 자격요건(필수)은 0.6~1.0, 우대사항은 0.3~0.7.
+            - kind 는 TECH(기술/도구/언어), ROLE(직무/역할), ETC(도메인/역량) 중 하나.
+            - 같은 키워드는 한 번만, 최대 %d개.
+            """.formatted(MAX_KEYWORDS);
+
+    private static final Map<String, Object> RESPONSE_FORMAT = Map.of(
+            "format", Map.of(
+                    "type", "json_schema",
+                    "name", "job_keywords",
+                    "strict", true,
+                    "schema", Map.of(
+                            "type", "object",
+                            "additionalProperties", false,
+                            "required", List.of("keywords"),
+                            "properties", Map.of(
+                                    "keywords", Map.of(
+                                            "type", "array",
+                                            "items", Map.of(
+                                                    "type", "object",
+                                                    "additionalProperties", false,
+                                                    "required", List.of("term", "weight", "kind"),
+                                                    "properties", Map.of(
+                                                            "term", Map.of("type", "string"),
+                                                            "weight", Map.of("type", "number"),
+                                                            "kind", Map.of("type", "string",
+                                                                    "enum", List.of("TECH", "ROLE", "ETC")))))))));
+
+    private final WebClient openAiWebClient;
+    private final ObjectMapper om;
+    private final boolean enabled;
+    private final String model;
+    private final Duration deadline;
+    private final Duration timeout;
+    private final int maxOutputTokens;
+    private final int maxEntries;
+
+    // 늦게 도착한 LLM 결과 (섹션 해시 → 키워드), 항목 수 기준 LRU
+    private final LinkedHashMap<String, List<Keyword>> late;
+    private final ConcurrentHashMap<String, CompletableFuture<List<Keyword>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Map<Source, Counter> sources = new LinkedHashMap<>();
+    private final Counter failures;
+    private final Timer latency;
+
+    public LlmKeywordExtractor(WebClient openAiWebClient, ObjectMapper om, MeterRegistry meters,
+                               @Value("${remodel.ai.enabled:false}") boolean enabled,
+                               @Value("${openai.model:gpt-4o-mini}") String model,
+                               @Value("${remodel.ai.deadline:2s}") Duration deadline,
+                               @Value("${remodel.ai.timeout:20s}") Duration timeout,
+                               @Value("${remodel.ai.max-output-tokens:1200}") int maxOutputTokens,
+                               @Value("${remodel.ai.cache.max-entries:512}") int maxEntries) {
+        this.openAiWebClient = openAiWebClient;
+        this.om = om;
+        this.enabled = enabled;
+        this.model = model;
+        this.deadline = deadline;
+        this.timeout = timeout;
+        this.maxOutputTokens = maxOutputTokens;
+        this.maxEntries = maxEntries;
+        this.late = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<Keyword>> eldest) {
+                return size() > LlmKeywordExtractor.this.maxEntries;
+            }
+        };
+        for (Source s : Source.values()) {
+            sources.put(s, Counter.builder("remodel.keywords.source").tag("source", s.name().toLowerCase(Locale.ROOT))
+                    .description("키워드 추출 결과의 출처").register(meters));
+        }
+        this.failures = Counter.builder("remodel.keywords.llm.failures").register(meters);
+        this.latency = Timer.builder("remodel.keywords.llm.latency").description("LLM 키워드 추출 응답 시간").register(meters);
+        Gauge.builder("remodel.keywords.llm.pending", inFlight, Map::size).register(meters);
+        Gauge.builder("remodel.keywords.llm.cached", this, LlmKeywordExtractor::cachedCount).register(meters);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public String model() {
+        return model;
+    }
+
+    /**
+     * LLM 과 규칙 기반 추출을 동시에 돌려서 deadline 안에 온 쪽을 고른다.
+     * LLM 이 꺼져 있으면 규칙 기반 결과만.
+     */
+    public Extraction extract(JobReqPref rp, Supplier<List<Keyword>> rules) {
+        if (!enabled) return counted(new Extraction(rules.get(), Source.RULES));
+
+        String key = JobPostingStore.contentHash(rp);
+        List<Keyword> cached = cached(key);
+        if (cached != null) {
+            logger.info("늦게 도착했던 LLM 키워드 사용: {}개", cached.size());
+            return counted(new Extraction(cached, Source.LLM_CACHED));
+        }
+
+        long deadlineAt = System.nanoTime() + deadline.toNanos();
+        CompletableFuture<List<Keyword>> llm = inFlight.get(key);
+        if (llm == null) {
+            CompletableFuture<List<Keyword>> mine = new CompletableFuture<>();
+            llm = inFlight.putIfAbsent(key, mine);
+            if (llm == null) {
+                llm = mine;
+                call(key, rp, mine);
+            }
+        }
+        List<Keyword> fallback = rules.get(); // LLM 응답을 기다리는 동안
+        try {
+            List<Keyword> keywords = llm.get(Math.max(0, deadlineAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return counted(new Extraction(keywords, Source.LLM));
+        } catch (TimeoutException e) {
+            logger.info("LLM 키워드 추출이 {} 안에 끝나지 않아 규칙 기반 결과 사용 (LLM 결과는 다음 요청에)", deadline);
+            return counted(new Extraction(fallback, Source.RULES_PENDING));
+        } catch (ExecutionException e) {
+            logger.warn("LLM 키워드 추출 실패, 규칙 기반 결과 사용: {}", e.getCause().getMessage());
+            return counted(new Extraction(fallback, Source.RULES));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return counted(new Extraction(fallback, Source.RULES_PENDING));
+        }
+    }
+
+    /** 응답 본문(Responses API) → 키워드. 스키마를 벗어난 항목은 고치거나 버린다 */
+    List<Keyword> parse(String body) throws Exception {
+        JsonNode root = om.readTree(body);
+        String text = null;
+        if (root.hasNonNull("output_text")) {
+            text = root.get("output_text").asText();
+        } else {
+            for (JsonNode item : root.path("output")) {
+                for (JsonNode c : item.path("content")) {
+                    if (c.hasNonNull("text")) {
+                        text = c.get("text").asText();
+                        break;
+                    }
+                }
+                if (text != null) break;
+            }
+        }
+        if (text == null) throw new IllegalStateException("응답에 출력 텍스트가 없습니다.");
+
+        Map<String, Keyword> dedup = new LinkedHashMap<>();
+        for (JsonNode k : om.readTree(text).path("keywords")) {
+            String term = k.path("term").asText("").strip();
+            if (term.isEmpty() || term.length() > MAX_TERM_LENGTH) continue;
+            double weight = k.path("weight").asDouble(0.5);
+            weight = Double.isFinite(weight) ? Math.max(0.0, Math.min(1.0, weight)) : 0.5;
+            Keyword.Kind kind;
+            try {
+                kind = Keyword.Kind.valueOf(k.path("kind").asText("ETC").strip().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                kind = Keyword.Kind.ETC;
+            }
+            Keyword keyword = new Keyword(term, weight, kind);
+            dedup.merge(term.toLowerCase(Locale.ROOT), keyword, (a, b) -> a.getWeight() >= b.getWeight() ? a : b);
+            if (dedup.size() >= MAX_KEYWORDS) break;
+        }
+        if (dedup.isEmpty()) throw new IllegalStateException("응답에 키워드가 없습니다.");
+        return List.copyOf(dedup.values());
+    }
+
+    public synchronized int cachedCount() {
+        return late.size();
+    }
+
+    private synchronized List<Keyword> cached(String key) {
+        return late.get(key);
+    }
+
+    /** 결과는 보관/진행 중 표시 정리를 마친 뒤 result 로 넘긴다 (경주에서 졌어도 보관) */
+    private void call(String key, JobReqPref rp, CompletableFuture<List<Keyword>> result) {
+        long started = System.nanoTime();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("model", model);
+        body.put("max_output_tokens", maxOutputTokens);
+        body.put("input", List.of(
+                Map.of("role", "system", "content", SYSTEM_PROMPT),
+                Map.of("role", "user", "content", userPrompt(rp))));
+        body.put("text", RESPONSE_FORMAT);
+
+        openAiWebClient.post()
+                .uri("/responses")
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(timeout)
+                .map(json -> {
+                    try {
+                        return parse(json);
+                    } catch (Exception e) {
+                        throw new IllegalStateException("LLM 키워드 응답 해석 실패: " + e.getMessage(), e);
+                    }
+                })
+                .subscribe(keywords -> {
+                    latency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    synchronized (this) {
+                        late.put(key, keywords);
+                    }
+                    inFlight.remove(key, result);
+                    logger.info("LLM 키워드 추출 완료: {}개, {} ms", keywords.size(), (System.nanoTime() - started) / 1_000_000);
+                    result.complete(keywords);
+                }, error -> {
+                    latency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    failures.increment();
+                    inFlight.remove(key, result);
+                    result.completeExceptionally(error);
+                });
+    }
+
+    private static String userPrompt(JobReqPref rp) {
+        StringBuilder sb = new StringBuilder(512);
+        sb.append("[자격요건]\n");
+        for (String r : rp.getRequired()) sb.append("- ").append(r).append('\n');
+        sb.append("[우대사항]\n");
+        for (String p : rp.getPreferred()) sb.append("- ").append(p).append('\n');
+        return sb.toString();
+    }
+
+    private Extraction counted(Extraction e) {
+        sources.get(e.source()).increment();
+        return e;
+    }
+}
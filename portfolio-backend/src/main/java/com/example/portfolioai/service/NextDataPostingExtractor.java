@@ -0,0 +1,102 @@
+// src/main/java/com/example/portfolioai/service/NextDataPostingExtractor.java
+package com.example.portfolioai.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.portfolioai.dto.JobReqPref;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Next.js 기반 채용 사이트(__NEXT_DATA__ script)의 공고 본문 추출.
+ * 사이트마다 자격요건/우대사항이 들어 있는 필드 이름만 다르므로 호스트별 필드 표로 처리한다.
+ * 페이지 데이터 전체를 트리로 읽지 않고 토큰 스트림에서 해당 필드의 문자열 값만 집는다.
+ */
+@Component
+@Order(10)
+public class NextDataPostingExtractor implements StructuredPostingExtractor {
+    private static final Logger logger = LoggerFactory.getLogger(NextDataPostingExtractor.class);
+
+    private record Fields(Set<String> required, Set<String> preferred) {}
+
+    // 호스트(접미어) → 필드 이름 (정규화 URL 기준이라 www./m. 은 이미 빠져 있다)
+    private static final Map<String, Fields> SITES = Map.of(
+            "wanted.co.kr", new Fields(Set.of("requirements"), Set.of("preferred_points")),
+            "jumpit.saramin.co.kr", new Fields(Set.of("qualifications"), Set.of("preferredRequirements")),
+            "career.programmers.co.kr", new Fields(Set.of("requirement"), Set.of("preferredExperience")));
+
+    private final JsonFactory json = new JsonFactory();
+
+    @Override
+    public String name() {
+        return "next-data";
+    }
+
+    @Override
+    public boolean supports(String host) {
+        return fieldsFor(host) != null;
+    }
+
+    @Override
+    public Optional<JobReqPref> extract(String host, String html) {
+        Fields fields = fieldsFor(host);
+        if (fields == null) return Optional.empty();
+        for (String body : StructuredPostingExtractor.scriptBodies(html, "__NEXT_DATA__")) {
+            List<String> req = new ArrayList<>();
+            List<String> pref = new ArrayList<>();
+            try (JsonParser p = json.createParser(body)) {
+                // 필드별 상태: 0 아직, 1 배열 값 모으는 중, 2 완료
+                // 첫 번째로 나온 값만 사용 (추천 공고 등 뒤쪽 목록의 같은 필드 무시)
+                int reqState = 0, prefState = 0;
+                JsonToken t;
+                while ((t = p.nextToken()) != null) {
+                    if (t == JsonToken.END_ARRAY) {
+                        if (reqState == 1) reqState = 2;
+                        if (prefState == 1) prefState = 2;
+                        if (reqState == 2 && prefState == 2) break;
+                        continue;
+                    }
+                    if (t != JsonToken.VALUE_STRING) continue;
+                    JsonStreamContext ctx = p.getParsingContext();
+                    boolean inArray = ctx.inArray();
+                    String field = inArray ? ctx.getParent().getCurrentName() : p.currentName();
+                    if (field == null) continue;
+                    if (reqState < 2 && fields.required().contains(field) && (reqState == 1 || !inArray || ctx.getCurrentIndex() == 0)) {
+                        StructuredPostingExtractor.addItems(p.getText(), req);
+                        reqState = inArray ? 1 : 2;
+                    } else if (prefState < 2 && fields.preferred().contains(field) && (prefState == 1 || !inArray || ctx.getCurrentIndex() == 0)) {
+                        StructuredPostingExtractor.addItems(p.getText(), pref);
+                        prefState = inArray ? 1 : 2;
+                    }
+                    if (reqState == 2 && prefState == 2) break;
+                }
+            } catch (IOException e) {
+                logger.debug("__NEXT_DATA__ 파싱 실패: {}", e.getMessage());
+                continue;
+            }
+            if (!req.isEmpty() || !pref.isEmpty()) return Optional.of(new JobReqPref(req, pref));
+        }
+        return Optional.empty();
+    }
+
+    private static Fields fieldsFor(String host) {
+        if (host == null) return null;
+        for (Map.Entry<String, Fields> e : SITES.entrySet()) {
+            String site = e.getKey();
+            if (host.equals(site) || host.endsWith("." + site)) return e.getValue();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,100 @@
+// src/main/java/com/example/portfolioai/service/NgramVectors.java
+package com.example.portfolioai.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 로컬 문자 n-gram 해싱 벡터 (네트워크/모델 없음).
+ * 단어마다 앞뒤 경계 문자를 붙여 2/3-gram 을 DIM 칸에 부호 해싱하고 L2 정규화한다 → 내적이 코사인 유사도.
+ * 한글/영문/숫자를 모두 쓰므로 "결제시스템을" 과 "결제 시스템" 처럼 띄어쓰기/조사가 달라도 유사도가 나온다.
+ * 내적은 DIM 칸 스칼라 루프 (인큐베이터 모듈/JVM 옵션 없이 패키징된 jar 에서도 같은 경로). 속도는 RankingKernelBenchmarkTest 참고.
+ */
+final class NgramVectors {
+    static final int DIM = 128;
+
+    // 프로젝트 텍스트에서 벡터로 만드는 서로 다른 단어 수 상한
+    static final int MAX_WORDS = 64;
+
+    private NgramVectors() {}
+
+    /** 텍스트 전체 벡터 (단어가 없으면 null) */
+    static float[] embed(String text) {
+        float[] v = new float[DIM];
+        boolean any = false;
+        for (String word : words(text, Integer.MAX_VALUE)) {
+            addGrams(v, word);
+            any = true;
+        }
+        return any && normalize(v) ? v : null;
+    }
+
+    /** 서로 다른 단어별 벡터를 이어 붙인 배열 (단어 i 는 i * DIM 부터) */
+    static float[] embedWords(String text) {
+        Set<String> words = words(text, MAX_WORDS);
+        float[] flat = new float[words.size() * DIM];
+        int i = 0;
+        for (String word : words) {
+            float[] v = new float[DIM];
+            addGrams(v, word);
+            normalize(v);
+            System.arraycopy(v, 0, flat, i++ * DIM, DIM);
+        }
+        return flat;
+    }
+
+    /** a[off..off+DIM) · b */
+    static float dot(float[] a, int off, float[] b) {
+        float sum = 0f;
+        for (int i = 0; i < DIM; i++) sum += a[off + i] * b[i];
+        return sum;
+    }
+
+    /** 단어 벡터들(embedWords) 중 b 와 가장 가까운 유사도 (단어가 없으면 0) */
+    static float maxDot(float[] words, float[] b) {
+        float best = 0f;
+        for (int off = 0; off < words.length; off += DIM) {
+            float d = dot(words, off, b);
+            if (d > best) best = d;
+        }
+        return best;
+    }
+
+    /** 소문자화 후 글자/숫자/+/# 로 이어진 단어 (등장 순서, 중복 제거) */
+    private static Set<String> words(String text, int max) {
+        Set<String> out = new LinkedHashSet<>();
+        if (text == null) return out;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i <= text.length() && out.size() < max; i++) {
+            char c = i < text.length() ? Character.toLowerCase(text.charAt(i)) : ' ';
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                sb.append(c);
+            } else if (sb.length() > 0) {
+                out.add(sb.toString());
+                sb.setLength(0);
+            }
+        }
+        return out;
+    }
+
+    private static void addGrams(float[] v, String word) {
+        String padded = '\u0002' + word + '\u0003';
+        for (int n = 2; n <= 3; n++) {
+            for (int i = 0; i + n <= padded.length(); i++) {
+                int h = 0x811C9DC5 ^ n; // FNV-1a
+                for (int j = i; j < i + n; j++) h = (h ^ padded.charAt(j)) * 0x01000193;
+                h ^= h >>> 15;
+                v[h & (DIM - 1)] += (h < 0) ? -1f : 1f;
+            }
+        }
+    }
+
+    private static boolean normalize(float[] v) {
+        double sq = 0;
+        for (float x : v) sq += x * x;
+        if (sq == 0) return false;
+        float inv = (float) (1.0 / Math.sqrt(sq));
+        for (int i = 0; i < v.length; i++) v[i] *= inv;
+        return true;
+    }
+}
@@ -1,23 +1,36 @@
 package com.example.portfolioai.service;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.portfolioai.dto.GenerateSummaryReq;
 import com.example.portfolioai.dto.GenerateSummaryRes;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
 
 @Service
 public class PortfolioAiService {
@@ -31,11 +44,157 @@ public class PortfolioAiService {
     @Value("${openai.max-output-tokens:500}")
     private int maxOutputTokens;
 
-    public PortfolioAiService(WebClient openAiWebClient) {
+    // 스트리밍 생성 SSE 연결 제한
+    @Value("${openai.stream-timeout:2m}")
+    private Duration streamTimeout;
+
+    // 요약 생성 한 건의 제한 (요청이 더 짧게 지정하면 그것을 쓴다)
+    @Value("${openai.summary-timeout:30s}")
+    private Duration summaryTimeout;
+
+    private final MeterRegistry meters;
+
+    public PortfolioAiService(WebClient openAiWebClient, MeterRegistry meters) {
         this.openAiWebClient = openAiWebClient;
+        this.meters = meters;
     }
 
     public Mono<GenerateSummaryRes> generate(GenerateSummaryReq req) {
+        return generate(req, summaryTimeout);
+    }
+
+    /**
+     * 요약 생성 (블로킹 없음). deadline 이 지나면 504.
+     * 구독을 취소하면 (클라이언트가 끊으면) OpenAI 요청도 끊긴다.
+     */
+    public Mono<GenerateSummaryRes> generate(GenerateSummaryReq req, Duration deadline) {
+        Mono<GenerateSummaryRes> call = openAiWebClient.post()
+            .uri("/responses")
+            .bodyValue(requestBody(req))
+            .retrieve()
+            .onStatus(HttpStatusCode::isError, this::upstreamError)
+            .bodyToMono(String.class)
+            .map(this::extractTextSafely)
+            .map(GenerateSummaryRes::new)
+            .timeout(deadline);
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return call
+                .doOnSuccess(res -> record("single", "completed", started))
+                .doOnError(e -> record("single", e instanceof TimeoutException ? "timeout" : "failed", started))
+                .doOnCancel(() -> record("single", "cancelled", started));
+        }).onErrorMap(TimeoutException.class,
+            e -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "요약 생성 시간(" + deadline.toMillis() + "ms) 초과"));
+    }
+
+    /** 요청이 지정한 제한(ms). 없으면 기본값, 기본값보다 길면 기본값. 0 이하면 400 */
+    public Duration deadline(Long requestedMillis) {
+        if (requestedMillis == null) return summaryTimeout;
+        if (requestedMillis <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "X-Request-Timeout must be a positive number of milliseconds");
+        }
+        Duration requested = Duration.ofMillis(requestedMillis);
+        return requested.compareTo(summaryTimeout) < 0 ? requested : summaryTimeout;
+    }
+
+    /**
+     * 스트리밍 생성: 모델이 쓰는 중인 출력 텍스트 조각(response.output_text.delta)을 바로 흘려보낸다.
+     * 응답 이벤트 스트림은 Netty 버퍼 단위로 증분 파싱한다 (SseEventParser).
+     * 구독을 취소하면 OpenAI 요청도 끊긴다.
+     */
+    public Flux<String> generateStream(GenerateSummaryReq req) {
+        Map<String, Object> body = requestBody(req);
+        body.put("stream", true);
+        Flux<String> deltas = openAiWebClient.post()
+            .uri("/responses")
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .bodyValue(body)
+            .retrieve()
+            .onStatus(HttpStatusCode::isError, this::upstreamError)
+            .bodyToFlux(DataBuffer.class)
+            .transform(SseEventParser::events)
+            .handle((byte[] data, SynchronousSink<String> sink) -> {
+                JsonNode event;
+                try {
+                    event = om.readTree(data);
+                } catch (IOException e) {
+                    return; // [DONE] 같은 JSON 이 아닌 data
+                }
+                switch (event.path("type").asText()) {
+                    case "response.output_text.delta" -> {
+                        String delta = event.path("delta").asText("");
+                        if (!delta.isEmpty()) sink.next(delta);
+                    }
+                    case "response.failed", "error" -> {
+                        JsonNode error = event.has("response") ? event.path("response").path("error") : event;
+                        sink.error(new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                                error.path("message").asText("요약 생성 실패")));
+                    }
+                    default -> { }
+                }
+            });
+        return Flux.defer(() -> {
+            long started = System.nanoTime();
+            return deltas
+                .doOnComplete(() -> record("stream", "completed", started))
+                .doOnError(e -> record("stream", "failed", started))
+                .doOnCancel(() -> record("stream", "cancelled", started));
+        });
+    }
+
+    /**
+     * generateStream 을 SSE 로: delta 이벤트({"text": 조각}) 여러 번 → done 이벤트(전체 요약) 또는 error 이벤트.
+     * 조각에 줄바꿈이 들어 있으므로 JSON 으로 감싸서 보낸다. 클라이언트가 끊거나 시간이 지나면 생성도 멈춘다.
+     */
+    public SseEmitter stream(GenerateSummaryReq req) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        StringBuilder summary = new StringBuilder();
+        Disposable subscription = generateStream(req).subscribe(
+            delta -> {
+                summary.append(delta);
+                try {
+                    emitter.send(SseEmitter.event().name("delta").data(Map.of("text", delta), MediaType.APPLICATION_JSON));
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 끊은 경우 → onError/onCompletion 에서 구독 취소
+                    emitter.completeWithError(e);
+                }
+            },
+            error -> {
+                String msg = error instanceof ResponseStatusException rse ? rse.getReason() : error.getMessage();
+                try {
+                    emitter.send(SseEmitter.event().name("error")
+                        .data(new GenerateSummaryRes("요약 생성 실패: " + (msg == null || msg.isBlank() ? "오류" : msg)),
+                              MediaType.APPLICATION_JSON));
+                    emitter.complete();
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                }
+            },
+            () -> {
+                try {
+                    emitter.send(SseEmitter.event().name("done").data(new GenerateSummaryRes(summary.toString()),
+                        MediaType.APPLICATION_JSON));
+                    emitter.complete();
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                }
+            });
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(e -> subscription.dispose());
+        return emitter;
+    }
+
+    /** 호출 결과별 시간/건수: ai.summary.calls{mode=single|stream, outcome=completed|cancelled|failed|timeout} */
+    private void record(String mode, String outcome, long startedNanos) {
+        Timer.builder("ai.summary.calls")
+            .tag("mode", mode)
+            .tag("outcome", outcome)
+            .register(meters)
+            .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Map<String, Object> requestBody(GenerateSummaryReq req) {
         String tone = req.tone() != null ? req.tone() : "insightful";
 
         var system = Map.of(
@@ -95,23 +254,16 @@ public class PortfolioAiService {
         body.put("model", model);
         body.put("max_output_tokens", maxOutputTokens);
         body.put("input", List.of(system, user));
+        return body;
+    }
 
-        return openAiWebClient.post()
-            .uri("/responses")
-            .bodyValue(body)
-            .retrieve()
-            .onStatus(
-                HttpStatusCode::isError,
-                (ClientResponse cr) -> cr.bodyToMono(String.class)
-                    .defaultIfEmpty("")
-                    .flatMap(err -> {
-                        System.err.println("OpenAI API Error: " + cr.statusCode() + " -> " + err);
-                        return Mono.error(new ResponseStatusException(cr.statusCode(), err));
-                    })
-            )
-            .bodyToMono(String.class)
-            .map(this::extractTextSafely)
-            .map(GenerateSummaryRes::new);
+    private Mono<? extends Throwable> upstreamError(ClientResponse cr) {
+        return cr.bodyToMono(String.class)
+            .defaultIfEmpty("")
+            .flatMap(err -> {
+                System.err.println("OpenAI API Error: " + cr.statusCode() + " -> " + err);
+                return Mono.error(new ResponseStatusException(cr.statusCode(), err));
+            });
     }
 
 
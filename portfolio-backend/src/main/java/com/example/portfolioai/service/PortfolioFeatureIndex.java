@@ -0,0 +1,119 @@
+// src/main/java/com/example/portfolioai/service/PortfolioFeatureIndex.java
+package com.example.portfolioai.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.example.portfolioai.portfolio.PortfolioEntity;
+import com.example.portfolioai.portfolio.PortfolioFeatureEntity;
+import com.example.portfolioai.portfolio.PortfolioFeatureRepository;
+import com.example.portfolioai.portfolio.PortfolioRepository;
+import com.example.portfolioai.portfolio.PortfolioVersionView;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 포트폴리오별 매칭 특징 인덱스 (portfolio_feature).
+ * - 저장/생성 시 같은 트랜잭션에서 갱신한다 (PortfolioController).
+ * - 순위 계산은 id/updatedAt 과 이 인덱스만 읽는다. 인덱스가 없거나(예전 행) updatedAt/버전이 다르면 원본에서 메모리로만 다시 만든다
+ *   (읽기 전용 요청이므로 저장하지 않는다. 인덱스 행은 다음 저장 때 update 로 채워진다).
+ */
+@Service
+public class PortfolioFeatureIndex {
+    private static final Logger logger = LoggerFactory.getLogger(PortfolioFeatureIndex.class);
+
+    public record Indexed(Long id, Instant updatedAt, PortfolioFeatures features) {}
+
+    private final PortfolioFeatureRepository featureRepo;
+    private final PortfolioRepository portfolioRepo;
+    private final RemodelMaterializer materializer;
+    private final ObjectMapper om;
+    private final MeterRegistry meters;
+
+    public PortfolioFeatureIndex(PortfolioFeatureRepository featureRepo, PortfolioRepository portfolioRepo,
+                                 RemodelMaterializer materializer, ObjectMapper om, MeterRegistry meters) {
+        this.featureRepo = featureRepo;
+        this.portfolioRepo = portfolioRepo;
+        this.materializer = materializer;
+        this.om = om;
+        this.meters = meters;
+    }
+
+    /** 저장된 포트폴리오의 특징 갱신 (호출한 쪽 트랜잭션 안에서) */
+    public void update(PortfolioEntity p) {
+        featureRepo.save(row(featureRepo.findById(p.getId()).orElseGet(() -> new PortfolioFeatureEntity(p.getId())), p));
+    }
+
+    public void remove(Long portfolioId) {
+        featureRepo.deleteById(portfolioId);
+    }
+
+    /** 소유자의 kind 포트폴리오 특징 (updatedAt 내림차순) */
+    public List<Indexed> forOwner(String email, PortfolioEntity.Kind kind) {
+        List<PortfolioVersionView> versions = portfolioRepo.findVersionsByOwnerEmailAndKindOrderByUpdatedAtDesc(email, kind);
+        List<Long> ids = new ArrayList<>(versions.size());
+        for (PortfolioVersionView v : versions) ids.add(v.getId());
+
+        Map<Long, PortfolioFeatureEntity> stored = new HashMap<>();
+        for (PortfolioFeatureEntity f : featureRepo.findAllById(ids)) stored.put(f.getPortfolioId(), f);
+
+        Map<Long, PortfolioFeatures> features = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (PortfolioVersionView v : versions) {
+            PortfolioFeatures f = read(stored.get(v.getId()), v.getUpdatedAt());
+            if (f != null) features.put(v.getId(), f);
+            else missing.add(v.getId());
+        }
+        if (!missing.isEmpty()) rebuild(missing, features);
+        meters.counter("portfolio.features.read", "result", "indexed").increment(versions.size() - missing.size());
+        meters.counter("portfolio.features.read", "result", "rebuilt").increment(missing.size());
+
+        List<Indexed> out = new ArrayList<>(versions.size());
+        for (PortfolioVersionView v : versions) {
+            PortfolioFeatures f = features.get(v.getId());
+            if (f != null) out.add(new Indexed(v.getId(), v.getUpdatedAt(), f)); // 그사이 삭제된 것은 뺀다
+        }
+        return out;
+    }
+
+    /** 인덱스가 없거나 오래된 포트폴리오는 원본을 읽어 특징만 계산한다 (저장하지 않음) */
+    private void rebuild(List<Long> ids, Map<Long, PortfolioFeatures> out) {
+        List<PortfolioEntity> rows = portfolioRepo.findAllById(ids);
+        List<RemodelMaterializer.View> views = materializer.views(rows);
+        for (int i = 0; i < rows.size(); i++) {
+            out.put(rows.get(i).getId(), views.get(i).features());
+        }
+        logger.info("포트폴리오 특징 인덱스 없음/오래됨, 원본에서 계산: {}개", ids.size());
+    }
+
+    private PortfolioFeatureEntity row(PortfolioFeatureEntity row, PortfolioEntity p) {
+        try {
+            row.setFeaturesJson(om.writeValueAsString(materializer.view(p).features()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("포트폴리오 특징 직렬화 실패", e);
+        }
+        row.setPortfolioUpdatedAt(p.getUpdatedAt());
+        return row;
+    }
+
+    private PortfolioFeatures read(PortfolioFeatureEntity row, Instant updatedAt) {
+        if (row == null || !Objects.equals(row.getPortfolioUpdatedAt(), updatedAt)) return null;
+        try {
+            PortfolioFeatures f = om.readValue(row.getFeaturesJson(), PortfolioFeatures.class);
+            return f.v() == PortfolioFeatures.VERSION ? f : null;
+        } catch (JsonProcessingException e) {
+            logger.warn("포트폴리오 특징 파싱 실패: id = {}", row.getPortfolioId());
+            return null;
+        }
+    }
+}
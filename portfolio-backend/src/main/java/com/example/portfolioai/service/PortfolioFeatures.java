@@ -0,0 +1,64 @@
+// src/main/java/com/example/portfolioai/service/PortfolioFeatures.java
+package com.example.portfolioai.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.util.StringUtils;
+
+import com.example.portfolioai.dto.PortfolioDocument;
+
+/**
+ * 포트폴리오 매칭용 특징 (portfolio_feature.features_json).
+ * 저장할 때 한 번만 정규화해 두고, 점수 계산은 원본 FE JSON 대신 이것만 읽는다.
+ * - skills/techs: RankingKernel.normalize 결과 (원문이 공백뿐이면 null → 매칭 안 됨)
+ * - skillLabels/techLabels: 원문 소문자 (한글 포함, n-gram 벡터 유사도용)
+ * - text: 프로젝트 제목 + 설명 + 역할 (소문자), sig: text 의 문자 3-gram 비트 서명 (키워드 포함 검사 사전 필터)
+ * 규칙이 바뀌면 VERSION 을 올린다 (다른 버전은 다시 만든다).
+ */
+public record PortfolioFeatures(int v, String name, String role, List<String> skills, List<String> skillLabels,
+                                List<Project> projects) {
+
+    public static final int VERSION = 3; // 2: PortfolioDocument 기준 (이름 없는 스킬도 자리 유지), 3: 원문 label
+
+    public record Project(List<String> techs, List<String> techLabels, String text, long[] sig) {}
+
+    public static PortfolioFeatures of(PortfolioDocument doc) {
+        List<Project> projects = new ArrayList<>(doc.projects().size());
+        for (PortfolioDocument.Project p : doc.projects()) {
+            if (p == null) {
+                projects.add(project(List.of(), "", "", ""));
+            } else {
+                projects.add(project(p.techs(), Objects.toString(p.title(), ""), Objects.toString(p.description(), ""),
+                        Objects.toString(p.myRole(), "")));
+            }
+        }
+        List<String> names = skillNames(doc);
+        return new PortfolioFeatures(VERSION, doc.name(), doc.role(), normalizeAll(names), lowerAll(names), projects);
+    }
+
+    /** 스킬 이름 (위치 그대로, 이름이 없으면 null) */
+    public static List<String> skillNames(PortfolioDocument doc) {
+        List<String> names = new ArrayList<>(doc.skills().size());
+        for (PortfolioDocument.Skill s : doc.skills()) names.add(s == null ? null : s.name());
+        return names;
+    }
+
+    private static Project project(List<String> techs, String title, String summary, String role) {
+        String text = (title + " " + summary + " " + role).toLowerCase();
+        return new Project(normalizeAll(techs), lowerAll(techs), text, RankingKernel.trigramSignature(text));
+    }
+
+    private static List<String> lowerAll(List<String> raw) {
+        List<String> out = new ArrayList<>(raw.size());
+        for (String s : raw) out.add(StringUtils.hasText(s) ? s.strip().toLowerCase() : null);
+        return out;
+    }
+
+    private static List<String> normalizeAll(List<String> raw) {
+        List<String> out = new ArrayList<>(raw.size());
+        for (String s : raw) out.add(StringUtils.hasText(s) ? RankingKernel.normalize(s) : null);
+        return out;
+    }
+}
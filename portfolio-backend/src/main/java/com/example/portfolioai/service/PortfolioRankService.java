@@ -0,0 +1,95 @@
+// src/main/java/com/example/portfolioai/service/PortfolioRankService.java
+package com.example.portfolioai.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.PortfolioRankRes;
+import com.example.portfolioai.dto.RankPortfoliosReq;
+import com.example.portfolioai.portfolio.PortfolioEntity;
+import com.example.portfolioai.service.JobPostingStore.StoredPosting;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 공고 하나에 대해 내 BASIC 포트폴리오 전체 순위 매기기 (리모델 전에 어느 것을 고를지).
+ * 공고는 한 번만 분석하고, 포트폴리오별 점수는 리모델 정렬과 같은 규칙(RankingKernel)으로 동시에 계산한다.
+ * 포트폴리오 원본(data_json)은 읽지 않고 특징 인덱스(PortfolioFeatureIndex)만 쓴다.
+ * 읽기 전용: 공고 분석(job_posting)도, 없던 특징 인덱스도 저장하지 않는다. postingId 는 같은 공고가 이미 저장돼 있을 때만.
+ */
+@Service
+public class PortfolioRankService {
+    private static final Logger logger = LoggerFactory.getLogger(PortfolioRankService.class);
+
+    private static final int MAX_MATCHED_TERMS = 5;
+
+    private final RemodelBuildService service;
+    private final PortfolioFeatureIndex featureIndex;
+    private final RemodelStages stages;
+    private final PostingTermStats termStats;
+    private final Timer scoreTimer;
+
+    public PortfolioRankService(RemodelBuildService service, PortfolioFeatureIndex featureIndex,
+                                RemodelStages stages, PostingTermStats termStats, MeterRegistry meters) {
+        this.service = service;
+        this.featureIndex = featureIndex;
+        this.stages = stages;
+        this.termStats = termStats;
+        this.scoreTimer = Timer.builder("portfolio.rank.score")
+                .description("공고 분석 이후 BASIC 포트폴리오 전체 점수 계산 시간")
+                .register(meters);
+    }
+
+    /** { postingId, keywords, portfolios: [PortfolioRankRes...] } (점수 높은 순) */
+    public Map<String, Object> rank(RankPortfoliosReq req, String email) {
+        RankingKernel.Matcher matcher = termStats.matcher(req.getMatcher());
+        // 공고 분석과 포트폴리오 목록 조회는 서로 무관하므로 동시에
+        RemodelStages.Both<StoredPosting, List<PortfolioFeatureIndex.Indexed>> r = stages.both(
+                () -> service.previewPosting(req.getSourceType(), req.getValue()),
+                () -> featureIndex.forOwner(email, PortfolioEntity.Kind.BASIC));
+        List<Keyword> keywords = r.first().analysis().keywords();
+        List<PortfolioFeatureIndex.Indexed> bases = r.second();
+
+        Timer.Sample sample = Timer.start();
+        RankingKernel.CompiledKeywords compiled = termStats.compile(keywords, matcher);
+        List<PortfolioRankRes> scored = stages.mapAll(bases, e -> score(e, keywords, compiled));
+        double[] scores = new double[scored.size()];
+        for (int i = 0; i < scores.length; i++) scores[i] = scored.get(i).score();
+        List<PortfolioRankRes> ranked = new ArrayList<>(scored.size());
+        for (int i : RankingKernel.rank(scores)) ranked.add(scored.get(i));
+        long nanos = sample.stop(scoreTimer);
+        logger.info("포트폴리오 순위: {}개, 점수 계산 {}ms", ranked.size(), nanos / 1_000_000);
+
+        Map<String, Object> res = new LinkedHashMap<>();
+        res.put("postingId", r.first().id());
+        res.put("keywords", keywords);
+        res.put("portfolios", ranked);
+        return res;
+    }
+
+    private PortfolioRankRes score(PortfolioFeatureIndex.Indexed e, List<Keyword> keywords, RankingKernel.CompiledKeywords compiled) {
+        PortfolioFeatures f = e.features();
+        double[] contributions = RankingKernel.keywordContributions(RankingKernel.prepare(f), compiled);
+        double total = 0.0;
+        for (double c : contributions) total += c;
+
+        List<String> matched = new ArrayList<>(MAX_MATCHED_TERMS);
+        for (int k : RankingKernel.rank(contributions)) {
+            if (matched.size() >= MAX_MATCHED_TERMS || contributions[k] <= 0) break;
+            matched.add(keywords.get(k).getTerm());
+        }
+
+        String title = f.name() == null || f.name().isBlank() ? "포트폴리오 #" + e.id() : f.name().trim();
+        String role = f.role() == null || f.role().isBlank() ? "-" : f.role().trim();
+        return new PortfolioRankRes(e.id(), title, role, total, RankingKernel.coverage(contributions, compiled),
+                matched, e.updatedAt() != null ? e.updatedAt().toString() : null);
+    }
+}
@@ -0,0 +1,128 @@
+// src/main/java/com/example/portfolioai/service/PostingAnalysisCache.java
+package com.example.portfolioai.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.portfolioai.dto.JobReqPref;
+import com.example.portfolioai.dto.Keyword;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 공고 분석 결과(자격/우대 섹션 + 키워드) 메모이제이션.
+ * 키는 공고 원문 바이트의 SHA-256 + 분석 설정(택소노미 버전, 추출 모드, 키워드 추출기).
+ * 같은 공고를 다시 리모델링하면 파싱/섹션 추출/키워드 추출을 건너뛰고 바로 점수화로 간다.
+ * 항목 수 기준 LRU.
+ */
+@Component
+public class PostingAnalysisCache {
+
+    /**
+     * 분석 결과. 캐시에서 공유되므로 리스트는 불변 사본으로 보관한다.
+     * provisional: LLM 키워드가 늦어서 규칙 기반 키워드로 대신한 결과 (캐시하지 않는다).
+     */
+    public record PostingAnalysis(JobReqPref sections, List<Keyword> keywords, boolean provisional) {
+        public PostingAnalysis {
+            sections = new JobReqPref(List.copyOf(sections.getRequired()), List.copyOf(sections.getPreferred()));
+            keywords = List.copyOf(keywords);
+        }
+
+        public PostingAnalysis(JobReqPref sections, List<Keyword> keywords) {
+            this(sections, keywords, false);
+        }
+    }
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, PostingAnalysis> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PostingAnalysisCache(MeterRegistry meters,
+                                @Value("${remodel.analysis.cache.max-entries:1024}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PostingAnalysis> eldest) {
+                return size() > PostingAnalysisCache.this.maxEntries;
+            }
+        };
+        this.hits = Counter.builder("posting.analysis.cache.requests").tag("result", "hit").register(meters);
+        this.misses = Counter.builder("posting.analysis.cache.requests").tag("result", "miss").register(meters);
+        Gauge.builder("posting.analysis.cache.entries", this, c -> c.size()).register(meters);
+        Gauge.builder("posting.analysis.cache.hit.ratio", this, c -> c.hitRatio()).register(meters);
+    }
+
+    /** 공고 원문 + 분석 설정 → 캐시 키 */
+    public static String key(byte[] content, String... settings) {
+        MessageDigest md = keyDigest(settings);
+        md.update(content);
+        return key(md);
+    }
+
+    /** 설정까지 넣은 키 다이제스트. 원문을 스트림으로 이어 넣고(DigestInputStream) key(md) 하면 key(content, settings) 와 같다 */
+    public static MessageDigest keyDigest(String... settings) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            for (String s : settings) {
+                md.update(String.valueOf(s).getBytes(StandardCharsets.UTF_8));
+                md.update((byte) 0);
+            }
+            return md;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public static String key(MessageDigest md) {
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 compute 결과를 저장해서 반환.
+     * 계산은 락 밖에서 하므로 같은 키가 동시에 들어오면 중복 계산될 수 있다 (결과는 같다).
+     * compute 가 예외를 던지거나 임시(provisional) 결과를 돌려주면 저장하지 않는다.
+     */
+    public PostingAnalysis computeIfAbsent(String key, Supplier<PostingAnalysis> compute) {
+        PostingAnalysis cached;
+        synchronized (this) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        PostingAnalysis computed = compute.get();
+        if (computed.provisional()) return computed;
+        synchronized (this) {
+            entries.put(key, computed);
+        }
+        return computed;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public double hitRatio() {
+        double h = hits.count();
+        double total = h + misses.count();
+        return total == 0 ? 0.0 : h / total;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
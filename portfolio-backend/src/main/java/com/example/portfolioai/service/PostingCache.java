@@ -0,0 +1,231 @@
+// src/main/java/com/example/portfolioai/service/PostingCache.java
+package com.example.portfolioai.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.example.portfolioai.util.PostingUrls;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 공고 응답 캐시 (PostingUrls.cacheKey 기준 LRU, 항목 수/바이트 상한).
+ * - ETag/Last-Modified 가 있으면 fresh-for 이후 조건부 GET(If-None-Match/If-Modified-Since)으로 재검증하고, 304 면 캐시 본문을 쓴다.
+ * - 검증자가 없는 응답은 ttl 동안만 그대로 쓰고 이후엔 새로 받는다.
+ * - 2xx 만 저장한다. 저장 본문은 max-bytes 로 잘린 바이트 그대로.
+ * - 저장할 응답은 본문 바이트를 들고 있어야 하므로 파서에는 바이트 배열로 넘어간다 (본문 + DOM 이 잠깐 같이 힙에 있다).
+ *   StreamReader 를 주면 저장하지 않을 응답(캐시 꺼짐, 검증자 없고 ttl 0, Content-Length 가 바이트 상한 초과)은
+ *   바이트로 모으지 않고 네트워크 스트림 그대로 넘긴다.
+ */
+@Component
+public class PostingCache {
+    private static final Logger logger = LoggerFactory.getLogger(PostingCache.class);
+
+    /** 캐시에서 꺼냈거나 새로 받은 공고 응답 */
+    public record CachedPosting(byte[] body, MediaType contentType, String etag, String lastModified, long storedAt) {
+        boolean hasValidators() {
+            return etag != null || lastModified != null;
+        }
+
+        CachedPosting touch(long now, String newEtag, String newLastModified) {
+            return new CachedPosting(body, contentType,
+                    newEtag != null ? newEtag : etag,
+                    newLastModified != null ? newLastModified : lastModified,
+                    now);
+        }
+    }
+
+    /** 저장하지 않는 응답을 읽는 쪽. body 는 max-bytes 로 잘린 네트워크 스트림이며 반환 후 닫힌다 */
+    @FunctionalInterface
+    public interface StreamReader<T> {
+        T read(InputStream body, MediaType contentType) throws IOException;
+    }
+
+    /** fetch 결과: 캐시에 있거나 저장한 응답이면 posting, 스트림으로 읽었으면 streamed (StreamReader 결과) */
+    public record Fetched<T>(CachedPosting posting, T streamed) {}
+
+    private final PostingCrawlClient crawler;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxTotalBytes;
+    private final long maxBodyBytes;
+    private final long freshForMillis;
+    private final long ttlMillis;
+
+    // access-order LinkedHashMap = LRU. 접근은 모두 this 로 동기화 (네트워크 호출은 락 밖)
+    private final LinkedHashMap<String, CachedPosting> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter revalidated;
+    private final Counter modified;
+
+    public PostingCache(PostingCrawlClient crawler,
+                        MeterRegistry meters,
+                        @Value("${remodel.fetch.cache.enabled:true}") boolean enabled,
+                        @Value("${remodel.fetch.cache.max-entries:256}") int maxEntries,
+                        @Value("${remodel.fetch.cache.max-total-bytes:67108864}") long maxTotalBytes,
+                        @Value("${remodel.fetch.max-bytes:2097152}") long maxBodyBytes,
+                        @Value("${remodel.fetch.cache.fresh-for:30s}") Duration freshFor,
+                        @Value("${remodel.fetch.cache.ttl:10m}") Duration ttl) {
+        this.crawler = crawler;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.maxTotalBytes = maxTotalBytes;
+        this.maxBodyBytes = maxBodyBytes;
+        this.freshForMillis = freshFor.toMillis();
+        this.ttlMillis = ttl.toMillis();
+
+        this.hits = Counter.builder("posting.cache.requests").tag("result", "hit").register(meters);
+        this.misses = Counter.builder("posting.cache.requests").tag("result", "miss").register(meters);
+        this.revalidated = Counter.builder("posting.cache.requests").tag("result", "revalidated").register(meters);
+        this.modified = Counter.builder("posting.cache.requests").tag("result", "modified").register(meters);
+        Gauge.builder("posting.cache.entries", this, c -> c.size()).register(meters);
+        Gauge.builder("posting.cache.bytes", this, c -> c.bytes()).register(meters);
+    }
+
+    /**
+     * URL 의 공고 본문. 캐시가 유효하면 네트워크 없이, 검증자가 있으면 조건부 GET 으로 가져온다.
+     * 2xx 가 아니면 null (캐시도 건드리지 않음).
+     */
+    public CachedPosting fetch(URI uri) throws IOException {
+        Fetched<Void> fetched = fetch(uri, null);
+        return fetched == null ? null : fetched.posting();
+    }
+
+    /**
+     * fetch(URI) 와 같지만, 저장하지 않을 응답은 바이트로 모으지 않고 reader 로 바로 읽는다 (reader 가 null 이면 항상 바이트).
+     * 2xx 가 아니면 null.
+     */
+    public <T> Fetched<T> fetch(URI uri, StreamReader<T> reader) throws IOException {
+        if (!enabled) {
+            misses.increment();
+            return download(uri, null, reader);
+        }
+        String key = PostingUrls.cacheKey(uri.toString());
+        long now = System.currentTimeMillis();
+        CachedPosting cached = get(key);
+
+        if (cached != null) {
+            long age = now - cached.storedAt();
+            if (cached.hasValidators() ? age < freshForMillis : age < ttlMillis) {
+                hits.increment();
+                return new Fetched<>(cached, null);
+            }
+            if (!cached.hasValidators()) {
+                remove(key, cached);
+                cached = null;
+            }
+        }
+
+        if (cached == null) {
+            misses.increment();
+            Fetched<T> fresh = download(uri, null, reader);
+            if (fresh != null && fresh.posting() != null) put(key, fresh.posting());
+            return fresh;
+        }
+
+        // 검증자가 있는 항목 → 조건부 GET
+        Fetched<T> result = download(uri, cached, reader);
+        if (result == null) return null;
+        if (result.posting() == cached) {
+            revalidated.increment();
+            logger.debug("공고 캐시 재검증(304): {}", key);
+            return result;
+        }
+        modified.increment();
+        if (result.posting() != null) {
+            put(key, result.posting());
+        } else {
+            remove(key, cached); // 바뀌었는데 저장하지 않는 응답 → 예전 본문을 더 쓰면 안 된다
+        }
+        return result;
+    }
+
+    /**
+     * 실제 요청. previous 가 있으면 조건부 헤더를 붙이고, 304 면 갱신된 previous 를 저장한 뒤 그 인스턴스를 돌려준다.
+     */
+    private <T> Fetched<T> download(URI uri, CachedPosting previous, StreamReader<T> reader) throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (previous != null) {
+            if (previous.etag() != null) headers.put("If-None-Match", previous.etag());
+            if (previous.lastModified() != null) headers.put("If-Modified-Since", previous.lastModified());
+        }
+        return crawler.get(uri, headers, (res, body) -> {
+            long now = System.currentTimeMillis();
+            if (res.status() == 304 && previous != null) {
+                CachedPosting touched = previous.touch(now, res.etag(), res.lastModified());
+                put(PostingUrls.cacheKey(uri.toString()), touched);
+                return new Fetched<>(previous, null);
+            }
+            if (res.status() < 200 || res.status() >= 300) {
+                logger.warn("크롤링 응답 오류: URL = {}, status = {}", uri, res.status());
+                return null;
+            }
+            if (reader != null && !storable(res)) {
+                return new Fetched<>(null, reader.read(new PostingDocumentReader.CappedInputStream(body, maxBodyBytes), res.contentType()));
+            }
+            byte[] bytes = PostingDocumentReader.readCapped(body, maxBodyBytes);
+            return new Fetched<>(new CachedPosting(bytes, res.contentType(), res.etag(), res.lastModified(), now), null);
+        });
+    }
+
+    /** 이 응답을 캐시에 넣게 되는지 (put 의 조건과 같게, 본문을 읽기 전에 헤더로만) */
+    private boolean storable(PostingCrawlClient.CrawlResponse res) {
+        if (!enabled) return false;
+        if (res.etag() == null && res.lastModified() == null && ttlMillis <= 0) return false;
+        long size = res.contentLength() < 0 ? maxBodyBytes : Math.min(res.contentLength(), maxBodyBytes);
+        return size <= maxTotalBytes;
+    }
+
+    // ======== LRU 저장소 ========
+    private synchronized CachedPosting get(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(String key, CachedPosting value) {
+        if (!enabled || value.body().length > maxTotalBytes) return;
+        CachedPosting old = entries.put(key, value);
+        if (old != null) totalBytes -= old.body().length;
+        totalBytes += value.body().length;
+
+        Iterator<CachedPosting> it = entries.values().iterator();
+        while ((entries.size() > maxEntries || totalBytes > maxTotalBytes) && it.hasNext()) {
+            CachedPosting eldest = it.next();
+            if (eldest == value) continue;
+            totalBytes -= eldest.body().length;
+            it.remove();
+        }
+    }
+
+    private synchronized void remove(String key, CachedPosting expected) {
+        if (entries.remove(key, expected)) totalBytes -= expected.body().length;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long bytes() {
+        return totalBytes;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+}
@@ -0,0 +1,221 @@
+// src/main/java/com/example/portfolioai/service/PostingCrawlClient.java
+package com.example.portfolioai.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 공고 페이지 GET 전용 클라이언트.
+ * - 커넥션 풀(CrawlHttpClientConfig) 위에서 호스트별 동시 요청 수를 세마포어로 제한하고, 초과분은 대기열에서 기다린다.
+ * - 연결/읽기 타임아웃과 별개로 요청 전체(대기 제외) 데드라인이 지나면 요청을 취소한다.
+ * - 풀 사용량, 호스트 대기시간, 요청 시간을 Micrometer 로 내보낸다.
+ */
+@Component
+public class PostingCrawlClient implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(PostingCrawlClient.class);
+    private static final long INTERRUPT_POLL_MILLIS = 100;
+
+    /** 응답 처리기. body 는 디코딩(gzip/br)이 끝난 스트림이며 처리기 반환 후 닫힌다. */
+    @FunctionalInterface
+    public interface BodyHandler<T> {
+        T handle(int status, MediaType contentType, InputStream body) throws IOException;
+    }
+
+    /** 상태/헤더까지 보는 응답 처리기 (조건부 GET 용) */
+    @FunctionalInterface
+    public interface ResponseHandler<T> {
+        T handle(CrawlResponse response, InputStream body) throws IOException;
+    }
+
+    /** 응답 메타데이터. 304 등 본문이 없는 응답이면 body 는 빈 스트림. contentLength 는 모르면 -1 */
+    public record CrawlResponse(int status, MediaType contentType, String etag, String lastModified, long contentLength) {}
+
+    /** 호스트 대기열에서 시간 안에 차례가 오지 않았거나 전체 데드라인을 넘긴 경우 */
+    public static class CrawlTimeoutException extends InterruptedIOException {
+        public CrawlTimeoutException(String message) { super(message); }
+    }
+
+    private final CloseableHttpClient client;
+    private final ConcurrentHashMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService deadlines;
+    private final int perHostLimit;
+    private final Duration queueTimeout;
+    private final Duration totalTimeout;
+
+    private final Timer queueWait;
+    private final Timer queueTimeouts;
+    private final MeterRegistry meters;
+
+    public PostingCrawlClient(CloseableHttpClient crawlHttpClient,
+                              PoolingHttpClientConnectionManager crawlConnectionManager,
+                              MeterRegistry meters,
+                              @Value("${remodel.crawl.per-host-limit:4}") int perHostLimit,
+                              @Value("${remodel.crawl.queue-timeout:10s}") Duration queueTimeout,
+                              @Value("${remodel.crawl.total-timeout:30s}") Duration totalTimeout) {
+        this.client = crawlHttpClient;
+        this.meters = meters;
+        this.perHostLimit = perHostLimit;
+        this.queueTimeout = queueTimeout;
+        this.totalTimeout = totalTimeout;
+        this.deadlines = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "crawl-deadline");
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.queueWait = Timer.builder("posting.crawl.queue.wait")
+                .description("호스트별 동시 요청 제한으로 대기한 시간")
+                .tag("outcome", "acquired")
+                .register(meters);
+        this.queueTimeouts = Timer.builder("posting.crawl.queue.wait")
+                .description("호스트별 동시 요청 제한으로 대기한 시간")
+                .tag("outcome", "timeout")
+                .register(meters);
+
+        Gauge.builder("posting.crawl.pool.leased", crawlConnectionManager, m -> stats(m).getLeased()).register(meters);
+        Gauge.builder("posting.crawl.pool.available", crawlConnectionManager, m -> stats(m).getAvailable()).register(meters);
+        Gauge.builder("posting.crawl.pool.pending", crawlConnectionManager, m -> stats(m).getPending()).register(meters);
+        Gauge.builder("posting.crawl.pool.max", crawlConnectionManager, m -> stats(m).getMax()).register(meters);
+        Gauge.builder("posting.crawl.host.queued", hostPermits,
+                map -> map.values().stream().mapToInt(Semaphore::getQueueLength).sum()).register(meters);
+    }
+
+    private static PoolStats stats(PoolingHttpClientConnectionManager m) {
+        return m.getTotalStats();
+    }
+
+    /**
+     * GET 요청. 호스트 차례를 기다린 뒤 전체 데드라인 안에서 응답 처리까지 끝낸다.
+     * 대기/데드라인 초과는 CrawlTimeoutException, 그 외 네트워크 오류는 IOException.
+     */
+    public <T> T get(URI uri, BodyHandler<T> handler) throws IOException {
+        return get(uri, Map.of(), (res, body) -> handler.handle(res.status(), res.contentType(), body));
+    }
+
+    /** 추가 요청 헤더(If-None-Match 등)를 붙인 GET. */
+    public <T> T get(URI uri, Map<String, String> headers, ResponseHandler<T> handler) throws IOException {
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        Semaphore permits = hostPermits.computeIfAbsent(host, h -> new Semaphore(perHostLimit, true));
+
+        long waitStart = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("크롤링 대기 중 인터럽트: " + host);
+        }
+        long waited = System.nanoTime() - waitStart;
+        if (!acquired) {
+            queueTimeouts.record(waited, TimeUnit.NANOSECONDS);
+            throw new CrawlTimeoutException("호스트 대기열 시간 초과(" + queueTimeout.toMillis() + "ms): " + host);
+        }
+        queueWait.record(waited, TimeUnit.NANOSECONDS);
+
+        HttpGet request = new HttpGet(uri);
+        request.setHeader(HttpHeaders.ACCEPT, "text/html,application/xhtml+xml,*/*;q=0.8");
+        request.setHeader(HttpHeaders.ACCEPT_LANGUAGE, "ko-KR,ko;q=0.9,en;q=0.8");
+        headers.forEach(request::setHeader);
+
+        AtomicBoolean expired = new AtomicBoolean();
+        ScheduledFuture<?> deadline = deadlines.schedule(() -> {
+            expired.set(true);
+            request.cancel();
+        }, totalTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        // 소켓 읽기는 인터럽트로 풀리지 않으므로, 호출 스레드가 인터럽트(리모델 단계 취소)되면 요청을 끊는다
+        Thread caller = Thread.currentThread();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        ScheduledFuture<?> interruptWatch = deadlines.scheduleWithFixedDelay(() -> {
+            if (caller.isInterrupted() && interrupted.compareAndSet(false, true)) request.cancel();
+        }, INTERRUPT_POLL_MILLIS, INTERRUPT_POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+        Timer.Sample sample = Timer.start(meters);
+        String outcome = "error";
+        try {
+            T result = client.execute(request, response -> {
+                HttpEntity entity = response.getEntity();
+                CrawlResponse res = new CrawlResponse(
+                        response.getCode(),
+                        parseContentType(entity == null ? null : entity.getContentType()),
+                        headerValue(response, HttpHeaders.ETAG),
+                        headerValue(response, HttpHeaders.LAST_MODIFIED),
+                        entity == null ? 0 : entity.getContentLength());
+                if (entity == null) {
+                    return handler.handle(res, InputStream.nullInputStream());
+                }
+                try (InputStream body = entity.getContent()) {
+                    return handler.handle(res, body);
+                }
+            });
+            outcome = "success";
+            return result;
+        } catch (IOException e) {
+            if (expired.get()) {
+                outcome = "deadline";
+                throw new CrawlTimeoutException("크롤링 전체 시간 초과(" + totalTimeout.toMillis() + "ms): " + uri);
+            }
+            if (interrupted.get()) {
+                outcome = "cancelled";
+                throw new InterruptedIOException("크롤링 취소: " + uri);
+            }
+            throw e;
+        } finally {
+            deadline.cancel(false);
+            interruptWatch.cancel(false);
+            permits.release();
+            sample.stop(meters.timer("posting.crawl.request", "outcome", outcome));
+        }
+    }
+
+    private static String headerValue(HttpResponse response, String name) {
+        Header h = response.getFirstHeader(name);
+        return h == null ? null : h.getValue();
+    }
+
+    private static MediaType parseContentType(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return MediaType.parseMediaType(value);
+        } catch (InvalidMediaTypeException e) {
+            logger.debug("Content-Type 파싱 실패: {}", value);
+            return null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        deadlines.shutdownNow();
+    }
+}
@@ -0,0 +1,169 @@
+// src/main/java/com/example/portfolioai/service/PostingDocumentReader.java
+package com.example.portfolioai.service;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+
+/**
+ * 공고 응답 바이트 → Jsoup 문서.
+ * 응답을 String 으로 모으지 않고 상한(maxBytes)까지만 스트림으로 읽어 파서에 바로 넘긴다.
+ * 문자셋은 Content-Type → BOM/meta → UTF-8 유효성 → CP949 순으로 판단한다.
+ * (charset 선언이 없는 국내 공고 페이지는 대부분 EUC-KR/CP949)
+ */
+public final class PostingDocumentReader {
+    private static final Logger logger = LoggerFactory.getLogger(PostingDocumentReader.class);
+
+    private static final int SNIFF_BYTES = 8 * 1024;
+    private static final Pattern META_CHARSET = Pattern.compile("<meta[^>]+charset\\s*=\\s*[\"']?([A-Za-z0-9_\\-:.]+)", Pattern.CASE_INSENSITIVE);
+    static final Charset KOREAN_FALLBACK = Charset.forName("x-windows-949");
+
+    private PostingDocumentReader() {}
+
+    /** 상한까지 읽고 멈추는 스트림. 상한에 걸리면 truncated 가 true */
+    public static final class CappedInputStream extends FilterInputStream {
+        private final long max;
+        private long read;
+        private boolean truncated;
+
+        public CappedInputStream(InputStream in, long max) {
+            super(in);
+            this.max = max;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (read >= max) { truncated = true; return -1; }
+            int b = super.read();
+            if (b >= 0) read++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (read >= max) { truncated = true; return -1; }
+            int n = super.read(b, off, (int) Math.min(len, max - read));
+            if (n > 0) read += n;
+            return n;
+        }
+
+        @Override
+        public boolean markSupported() { return false; }
+
+        public long bytesRead() { return read; }
+        public boolean truncated() { return truncated; }
+    }
+
+    /** 응답 본문을 스트림으로 파싱. body 는 호출자가 닫는다. */
+    public static Document parse(InputStream body, MediaType contentType, String baseUri, long maxBytes) throws IOException {
+        CappedInputStream capped = new CappedInputStream(body, maxBytes);
+        BufferedInputStream in = new BufferedInputStream(capped, SNIFF_BYTES);
+        String charset = charsetForParser(in, declared(contentType));
+        Document doc = Jsoup.parse(in, charset, baseUri);
+        if (capped.truncated()) {
+            logger.warn("공고 응답이 상한({} bytes)을 넘어 앞부분만 파싱: {}", maxBytes, baseUri);
+        }
+        return doc;
+    }
+
+    /** 상한까지 읽어 바이트로 반환 (버퍼 모드용) */
+    public static byte[] readCapped(InputStream body, long maxBytes) throws IOException {
+        CappedInputStream capped = new CappedInputStream(body, maxBytes);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+        capped.transferTo(out);
+        if (capped.truncated()) {
+            logger.warn("공고 응답이 상한({} bytes)을 넘어 앞부분만 사용", maxBytes);
+        }
+        return out.toByteArray();
+    }
+
+    /** 버퍼 모드: 바이트 → 문자열 (파서에 넘기지 않는 경우) */
+    public static String decode(byte[] bytes, MediaType contentType) {
+        Charset cs = declared(contentType);
+        if (cs == null) cs = sniff(bytes, Math.min(bytes.length, SNIFF_BYTES), true);
+        return new String(bytes, cs);
+    }
+
+    /** Jsoup 에 넘길 charset 이름. null 이면 Jsoup 이 BOM/meta 로 판단한다. */
+    private static String charsetForParser(BufferedInputStream in, Charset declared) throws IOException {
+        if (declared != null) return declared.name();
+        in.mark(SNIFF_BYTES);
+        byte[] head = in.readNBytes(SNIFF_BYTES);
+        in.reset();
+        Charset cs = sniff(head, head.length, false);
+        return cs == null ? null : cs.name();
+    }
+
+    /**
+     * BOM 이나 meta charset 이 있으면 resolveMeta 에 따라 그 값 또는 null(파서 위임),
+     * 없으면 UTF-8 으로 유효한지 보고 아니면 CP949.
+     */
+    private static Charset sniff(byte[] head, int len, boolean resolveMeta) {
+        if (len >= 3 && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB && (head[2] & 0xFF) == 0xBF) {
+            return resolveMeta ? StandardCharsets.UTF_8 : null;
+        }
+        if (len >= 2 && (((head[0] & 0xFF) == 0xFE && (head[1] & 0xFF) == 0xFF) || ((head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xFE))) {
+            return resolveMeta ? StandardCharsets.UTF_16 : null;
+        }
+        Matcher m = META_CHARSET.matcher(new String(head, 0, len, StandardCharsets.ISO_8859_1));
+        if (m.find()) {
+            if (!resolveMeta) return null;
+            Charset cs = lookup(m.group(1));
+            if (cs != null) return cs;
+        }
+        return isValidUtf8(head, len) ? StandardCharsets.UTF_8 : KOREAN_FALLBACK;
+    }
+
+    private static Charset declared(MediaType contentType) {
+        if (contentType == null) return null;
+        try {
+            return contentType.getCharset();
+        } catch (UnsupportedCharsetException | IllegalCharsetNameException e) {
+            return null;
+        }
+    }
+
+    private static Charset lookup(String name) {
+        try {
+            Charset cs = Charset.forName(name);
+            // EUC-KR 선언 페이지도 실제로는 CP949 확장 문자를 쓰는 경우가 많다
+            return "EUC-KR".equalsIgnoreCase(cs.name()) ? KOREAN_FALLBACK : cs;
+        } catch (UnsupportedCharsetException | IllegalCharsetNameException e) {
+            return null;
+        }
+    }
+
+    /** 앞부분이 UTF-8 로 유효한지. 끝에서 잘린 멀티바이트 시퀀스는 허용한다. */
+    static boolean isValidUtf8(byte[] b, int len) {
+        int i = 0;
+        while (i < len) {
+            int c = b[i] & 0xFF;
+            int extra;
+            if (c < 0x80) { i++; continue; }
+            else if (c >= 0xC2 && c <= 0xDF) extra = 1;
+            else if (c >= 0xE0 && c <= 0xEF) extra = 2;
+            else if (c >= 0xF0 && c <= 0xF4) extra = 3;
+            else return false;
+            for (int k = 1; k <= extra; k++) {
+                if (i + k >= len) return true; // 스니핑 구간 끝에서 잘림
+                if ((b[i + k] & 0xC0) != 0x80) return false;
+            }
+            i += extra + 1;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,137 @@
+// src/main/java/com/example/portfolioai/service/PostingSectionExtractor.java
+package com.example.portfolioai.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+
+import com.example.portfolioai.dto.JobReqPref;
+
+/**
+ * 공고 HTML 구조 기반 섹션 추출기.
+ * 문서 트리를 한 번 순회하면서 블록(헤딩, li, dt/dd, p, br 구분 줄) 단위로 줄을 만들고,
+ * 헤딩으로 자격요건/우대사항 구간을 판단해 항목을 바로 모은다.
+ * doc.text() 로 전체를 한 줄로 펴지 않으므로 섹션 경계가 유지된다.
+ */
+public final class PostingSectionExtractor {
+
+    private static final Set<String> SKIP = Set.of("script", "style", "noscript", "svg", "iframe", "template", "head", "button", "nav", "form");
+    private static final Set<String> HEADINGS = Set.of("h1", "h2", "h3", "h4", "h5", "h6", "dt", "th");
+    private static final Set<String> ITEMS = Set.of("li", "dd");
+    private static final Set<String> BLOCKS = Set.of("p", "div", "section", "article", "header", "footer", "main", "aside",
+            "ul", "ol", "dl", "table", "thead", "tbody", "tr", "td", "blockquote", "pre", "figure", "figcaption");
+    private static final Set<String> EMPHASIS = Set.of("strong", "b");
+
+    // 헤딩이 아닌 줄도 이 길이 이하면 헤더 후보로 본다 (예: <p>[자격요건]</p>)
+    private static final int SHORT_HEADER_MAX = 25;
+
+    private enum LineType { HEADING, ITEM, TEXT }
+
+    private final List<String> req = new ArrayList<>();
+    private final List<String> pref = new ArrayList<>();
+    private final StringBuilder line = new StringBuilder(128);
+    private int emphasized;   // 현재 줄에서 strong/b 안에 있는 글자 수
+    private int plain;        // 현재 줄에서 강조 밖 글자 수
+    private int mode;         // 0 none, 1 req, 2 pref
+
+    private PostingSectionExtractor() {}
+
+    /** 구조 기반으로 자격요건/우대사항 추출. 찾지 못하면 두 목록이 모두 빈 결과. */
+    public static JobReqPref extract(Element root) {
+        PostingSectionExtractor x = new PostingSectionExtractor();
+        x.walk(root, LineType.TEXT, 0);
+        x.flush(LineType.TEXT);
+        return new JobReqPref(x.req, x.pref);
+    }
+
+    private boolean done() {
+        return req.size() >= JobSectionScanner.MAX_ITEMS && pref.size() >= JobSectionScanner.MAX_ITEMS;
+    }
+
+    private void walk(Node node, LineType type, int emphasisDepth) {
+        if (done()) return;
+        if (node instanceof TextNode t) {
+            append(t.text(), emphasisDepth > 0);
+            return;
+        }
+        if (!(node instanceof Element el)) return;
+
+        String tag = el.normalName();
+        if (SKIP.contains(tag)) return;
+        if ("br".equals(tag)) {
+            flush(type);
+            return;
+        }
+
+        LineType childType = HEADINGS.contains(tag) ? LineType.HEADING
+                : ITEMS.contains(tag) ? LineType.ITEM
+                : type;
+        boolean block = childType != type || BLOCKS.contains(tag) || ITEMS.contains(tag) || HEADINGS.contains(tag);
+        int childEmphasis = EMPHASIS.contains(tag) ? emphasisDepth + 1 : emphasisDepth;
+
+        if (block) flush(type);
+        for (Node child : el.childNodes()) {
+            walk(child, childType, childEmphasis);
+            if (done()) return;
+        }
+        if (block) flush(childType);
+    }
+
+    private void append(String text, boolean emphasis) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c <= ' ' || c == ' ') {
+                if (line.length() > 0 && line.charAt(line.length() - 1) != ' ') line.append(' ');
+                continue;
+            }
+            line.append(c);
+            if (emphasis) emphasized++;
+            else plain++;
+        }
+    }
+
+    private void flush(LineType type) {
+        int end = line.length();
+        while (end > 0 && line.charAt(end - 1) == ' ') end--;
+        if (end > 0) {
+            // <p><strong>자격요건</strong></p> 처럼 강조만 있는 줄은 헤딩으로 취급
+            LineType effective = (type == LineType.TEXT && plain == 0 && emphasized > 0) ? LineType.HEADING : type;
+            onLine(line, end, effective);
+        }
+        line.setLength(0);
+        emphasized = 0;
+        plain = 0;
+    }
+
+    private void onLine(CharSequence text, int end, LineType type) {
+        int flags = JobSectionScanner.classify(text.subSequence(0, end));
+        boolean headerCandidate = type == LineType.HEADING || (type == LineType.TEXT && end <= SHORT_HEADER_MAX);
+
+        if (headerCandidate) {
+            if ((flags & JobSectionScanner.REQ_HDR) != 0) { mode = 1; return; }
+            if ((flags & JobSectionScanner.PREF_HDR) != 0) { mode = 2; return; }
+            if ((flags & JobSectionScanner.STOP_HDR) != 0) { mode = 0; return; }
+            if (type == LineType.HEADING) {
+                // 모르는 헤딩이면 다른 섹션이 시작된 것으로 본다 ("이런 분이면 더 좋아요" 는 우대)
+                mode = (flags & JobSectionScanner.PREF_HINT) != 0 ? 2 : 0;
+                return;
+            }
+        }
+
+        // 헤딩 없이 나열된 목록은 내용으로 섹션 추정 (텍스트 경로와 같은 규칙)
+        if (mode == 0 && type == LineType.ITEM) {
+            if ((flags & JobSectionScanner.YEAR) != 0 && (flags & JobSectionScanner.NEED) != 0) mode = 1;
+            else if ((flags & JobSectionScanner.PREF_HINT) != 0) mode = 2;
+        }
+        if (mode == 0) return;
+
+        List<String> target = mode == 1 ? req : pref;
+        if (target.size() >= JobSectionScanner.MAX_ITEMS) return;
+        String item = JobSectionScanner.toItem(text, 0, end);
+        if (item != null) target.add(item);
+    }
+}
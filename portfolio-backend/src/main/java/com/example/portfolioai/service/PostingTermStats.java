@@ -0,0 +1,164 @@
+// src/main/java/com/example/portfolioai/service/PostingTermStats.java
+package com.example.portfolioai.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.portfolioai.dto.Keyword;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 분석한 채용공고 코퍼스의 키워드 문서 빈도 (BM25 IDF).
+ * - 키워드는 처음 볼 때 정수 id 로 intern 하고, 문서 빈도는 id 위치의 int 배열에 원자적으로 더한다 (락 없음).
+ *   id 는 max-terms 까지만 발급하고, 넘친 키워드는 처음 보는 키워드(IDF 최대)로 취급한다.
+ * - 새로 분석한 공고마다 한 번씩 더하고(RemodelBuildService), 시작할 때 저장된 공고(job_posting)로 채운다.
+ * - 공고가 min-postings 보다 적으면 IDF 는 1 (기존 가중치 합과 같은 비율).
+ * 점수 방식은 remodel.scoring.mode (기본 bm25, weighted 면 IDF 를 모으지 않는다), 매칭 방식은 요청별 matcher 또는 remodel.scoring.matcher 로 고른다.
+ */
+@Service
+public class PostingTermStats {
+    private static final Logger logger = LoggerFactory.getLogger(PostingTermStats.class);
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final AtomicIntegerArray docFreq;
+    private final AtomicInteger postings = new AtomicInteger();
+    private final Instant startedAt = Instant.now();
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper om;
+    private final boolean bm25;
+    private final RankingKernel.Bm25 params;
+    private final int minPostings;
+    private final RankingKernel.Matcher defaultMatcher;
+    private final float minSimilarity;
+
+    public PostingTermStats(JdbcTemplate jdbc, ObjectMapper om, MeterRegistry meters,
+                            @Value("${remodel.scoring.mode:bm25}") String mode,
+                            @Value("${remodel.scoring.bm25.k1:1.2}") double k1,
+                            @Value("${remodel.scoring.bm25.b:0.75}") double b,
+                            @Value("${remodel.scoring.bm25.min-postings:20}") int minPostings,
+                            @Value("${remodel.scoring.bm25.max-terms:65536}") int maxTerms,
+                            @Value("${remodel.scoring.matcher:substring}") String matcher,
+                            @Value("${remodel.scoring.semantic.min-similarity:0.5}") float minSimilarity) {
+        this.jdbc = jdbc;
+        this.om = om;
+        this.bm25 = "bm25".equalsIgnoreCase(mode);
+        this.params = new RankingKernel.Bm25(k1, b, this::idf);
+        this.minPostings = minPostings;
+        this.docFreq = new AtomicIntegerArray(maxTerms);
+        this.defaultMatcher = RankingKernel.Matcher.of(matcher, RankingKernel.Matcher.SUBSTRING);
+        this.minSimilarity = minSimilarity;
+        Gauge.builder("remodel.scoring.postings", postings, AtomicInteger::get)
+                .description("IDF 에 반영된 채용공고 수").register(meters);
+        Gauge.builder("remodel.scoring.terms", ids, ConcurrentHashMap::size)
+                .description("IDF 표의 키워드 수").register(meters);
+    }
+
+    /** 설정된 점수 방식으로 키워드 컴파일 */
+    public RankingKernel.CompiledKeywords compile(List<Keyword> keywords, RankingKernel.Matcher matcher) {
+        return RankingKernel.compile(keywords, bm25 ? params : null, matcher, minSimilarity);
+    }
+
+    /** 요청의 matcher 값 (없으면 기본값). 모르는 값이면 400 */
+    public RankingKernel.Matcher matcher(String requested) {
+        try {
+            return RankingKernel.Matcher.of(requested, defaultMatcher);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "matcher must be 'substring' or 'semantic'");
+        }
+    }
+
+    /** 공고 하나의 키워드 (같은 키워드는 한 번만) */
+    public void record(Collection<Keyword> keywords) {
+        if (!bm25) return;
+        Set<String> terms = new HashSet<>();
+        for (Keyword k : keywords) {
+            String key = key(k.getTerm());
+            if (!key.isEmpty()) terms.add(key);
+        }
+        for (String term : terms) {
+            int id = intern(term);
+            if (id >= 0) docFreq.incrementAndGet(id);
+        }
+        postings.incrementAndGet();
+    }
+
+    /**
+     * 키워드 IDF 를 (0, 1] 로 정규화한 값: ln(1 + (N - df + 0.5) / (df + 0.5)) / ln(1 + (N + 0.5) / 0.5).
+     * 모든 공고에 나오는 키워드일수록 0 에 가깝고, 처음 보는 키워드는 1.
+     */
+    public double idf(String term) {
+        int n = postings.get();
+        if (n < minPostings) return 1.0;
+        Integer id = ids.get(key(term));
+        int df = id == null ? 0 : Math.min(docFreq.get(id), n);
+        return Math.log1p((n - df + 0.5) / (df + 0.5)) / Math.log1p((n + 0.5) / 0.5);
+    }
+
+    public int postings() {
+        return postings.get();
+    }
+
+    /** 시작 전에 저장된 공고로 채운다 (시작 후 분석한 공고는 record 로 이미 들어온다) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!bm25) return;
+        Thread t = new Thread(() -> {
+            try {
+                int[] loaded = { 0 };
+                jdbc.query("select keywords_json from job_posting where created_at < ?", rs -> {
+                    try {
+                        record(om.readValue(rs.getString(1), new TypeReference<List<Keyword>>() {}));
+                        loaded[0]++;
+                    } catch (Exception e) {
+                        logger.debug("IDF 채우기: 키워드 파싱 실패 ({})", e.getMessage());
+                    }
+                }, Timestamp.from(startedAt));
+                logger.info("IDF 표 채움: 공고 {}개, 키워드 {}개", loaded[0], ids.size());
+            } catch (RuntimeException e) {
+                logger.warn("IDF 표 채우기 실패: {}", e.getMessage());
+            }
+        }, "posting-term-stats");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /** -1: 표가 가득 참 */
+    private int intern(String term) {
+        Integer id = ids.get(term);
+        if (id != null) return id;
+        if (nextId.get() >= docFreq.length()) return -1;
+        id = ids.computeIfAbsent(term, t -> {
+            int next = nextId.getAndIncrement();
+            return next < docFreq.length() ? next : null; // null 이면 넣지 않는다
+        });
+        return id == null ? -1 : id;
+    }
+
+    private static String key(String term) {
+        return term == null ? "" : term.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,546 @@
+// src/main/java/com/example/portfolioai/service/RankingKernel.java
+package com.example.portfolioai.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.util.StringUtils;
+
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.Keyword.Kind;
+
+/**
+ * 키워드 기반 스킬/프로젝트 점수 계산 커널.
+ * 키워드와 항목을 요청당 한 번씩만 정규화/토큰화하고, 점수는 위치(index) 기준 double[] 에 쌓는다.
+ * 점수 규칙은 기존 containsToken / calculate*MatchScore 와 동일하다.
+ * 포트폴리오 쪽은 저장 시 만든 PortfolioFeatures(정규화 결과 + 3-gram 서명)를 그대로 쓴다.
+ * BM25 로 컴파일한 키워드는 가중치에 IDF(공고 코퍼스)를 곱하고, 매칭 횟수/프로젝트 텍스트 길이로 포화·정규화한다.
+ * SEMANTIC 매처는 토큰 포함 검사 대신 n-gram 벡터 코사인 유사도(NgramVectors)를 가중치에 곱한다.
+ */
+public final class RankingKernel {
+
+    private RankingKernel() {}
+
+    /** BM25 설정. idf 는 키워드 원문 → (0, 1] 가중치 배수 */
+    public record Bm25(double k1, double b, ToDoubleFunction<String> idf) {}
+
+    /** 키워드와 항목을 맞춰 보는 방식 */
+    public enum Matcher {
+        SUBSTRING,  // 정규화 토큰 포함 관계 (기존 containsToken)
+        SEMANTIC;   // n-gram 벡터 코사인 유사도
+
+        /** 요청 값 (대소문자 무시). 비어 있으면 dft, 모르는 값이면 IllegalArgumentException */
+        public static Matcher of(String name, Matcher dft) {
+            if (name == null || name.isBlank()) return dft;
+            return valueOf(name.strip().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /** 정규화/토큰화가 끝난 문자열 하나 */
+    static final class Prepared {
+        final boolean hasText;     // 원문 기준 StringUtils.hasText
+        final String normalized;
+        final String[] tokens;
+
+        Prepared(String raw) {
+            this.hasText = StringUtils.hasText(raw);
+            this.normalized = normalize(raw);
+            this.tokens = tokenize(normalized);
+        }
+
+        /** 이미 정규화된 값 (PortfolioFeatures). null 이면 원문이 비어 있던 것 */
+        static Prepared ofNormalized(String normalized) {
+            return new Prepared(normalized != null, normalized != null ? normalized : "");
+        }
+
+        private Prepared(boolean hasText, String normalized) {
+            this.hasText = hasText;
+            this.normalized = normalized;
+            this.tokens = tokenize(normalized);
+        }
+    }
+
+    /** 점수 계산용으로 펼친 포트폴리오 특징 (토큰 분리만 한다) */
+    public static final class PreparedPortfolio {
+        final Prepared[] skills;
+        final Prepared[][] techs;    // 프로젝트별 기술스택
+        final String[] texts;        // 프로젝트별 제목 + 설명 + 역할 (소문자)
+        final long[][] sigs;
+        final int[] lengths;         // 프로젝트별 text 단어 수 (BM25 길이 정규화)
+        final double avgLength;
+        private final List<String> skillLabels;
+        private final List<List<String>> techLabels;
+        private volatile Vectors vectors;
+
+        private PreparedPortfolio(PortfolioFeatures f) {
+            skills = prepareAll(f.skills());
+            int n = f.projects().size();
+            techs = new Prepared[n][];
+            texts = new String[n];
+            sigs = new long[n][];
+            lengths = new int[n];
+            skillLabels = f.skillLabels();
+            techLabels = new ArrayList<>(n);
+            long total = 0;
+            for (int p = 0; p < n; p++) {
+                PortfolioFeatures.Project project = f.projects().get(p);
+                techs[p] = prepareAll(project.techs());
+                texts[p] = project.text();
+                sigs[p] = project.sig();
+                lengths[p] = wordCount(texts[p]);
+                techLabels.add(project.techLabels());
+                total += lengths[p];
+            }
+            avgLength = n == 0 ? 0.0 : (double) total / n;
+        }
+
+        private static Prepared[] prepareAll(List<String> normalized) {
+            Prepared[] out = new Prepared[normalized.size()];
+            for (int i = 0; i < out.length; i++) out[i] = Prepared.ofNormalized(normalized.get(i));
+            return out;
+        }
+
+        /** SEMANTIC 매처용 벡터 (처음 쓸 때 한 번만 만든다) */
+        Vectors vectors() {
+            Vectors v = vectors;
+            if (v == null) {
+                v = new Vectors(this);
+                vectors = v;
+            }
+            return v;
+        }
+
+        public int skillCount() { return skills.length; }
+        public int projectCount() { return texts.length; }
+    }
+
+    /** 포트폴리오 항목 n-gram 벡터 (label 이 비어 있으면 null) */
+    static final class Vectors {
+        final float[][] skills;
+        final float[][][] techs;
+        final float[][] words;       // 프로젝트별 text 단어 벡터 (NgramVectors.embedWords)
+
+        private Vectors(PreparedPortfolio pf) {
+            skills = embedAll(pf.skillLabels);
+            techs = new float[pf.texts.length][][];
+            words = new float[pf.texts.length][];
+            for (int p = 0; p < pf.texts.length; p++) {
+                techs[p] = embedAll(pf.techLabels.get(p));
+                words[p] = NgramVectors.embedWords(pf.texts[p]);
+            }
+        }
+
+        private static float[][] embedAll(List<String> labels) {
+            float[][] out = new float[labels.size()][];
+            for (int i = 0; i < out.length; i++) out[i] = labels.get(i) == null ? null : NgramVectors.embed(labels.get(i));
+            return out;
+        }
+    }
+
+    /** 한 요청의 키워드 세트 (컴파일 결과) */
+    public static final class CompiledKeywords {
+        final int size;
+        final double[] weights;
+        final boolean[] tech;         // TECH 만 (스킬/기술스택 매칭 대상)
+        final boolean[] techOrRole;   // TECH/ROLE (프로젝트 텍스트 매칭 대상)
+        final Prepared[] prepared;
+        final String[] lowered;       // 텍스트 포함 검사용
+        final long[][] grams;         // lowered 의 3-gram 서명 (프로젝트 text 서명에 없으면 포함될 수 없음)
+        final Bm25 bm25;              // null 이면 가중치 합 (기존 규칙)
+        final double[] idfWeights;    // BM25: weights * idf
+        final float[][] vectors;      // SEMANTIC: 키워드 n-gram 벡터 (null 이면 SUBSTRING)
+        final float minSimilarity;
+
+        private CompiledKeywords(List<Keyword> keywords, Bm25 bm25, Matcher matcher, float minSimilarity) {
+            size = keywords.size();
+            weights = new double[size];
+            tech = new boolean[size];
+            techOrRole = new boolean[size];
+            prepared = new Prepared[size];
+            lowered = new String[size];
+            grams = new long[size][];
+            for (int i = 0; i < size; i++) {
+                Keyword k = keywords.get(i);
+                weights[i] = k.getWeight();
+                tech[i] = k.getKind() == Kind.TECH;
+                techOrRole[i] = tech[i] || k.getKind() == Kind.ROLE;
+                prepared[i] = new Prepared(k.getTerm());
+                lowered[i] = k.getTerm().toLowerCase();
+                grams[i] = trigramSignature(lowered[i]);
+            }
+            this.bm25 = bm25;
+            this.idfWeights = bm25 == null ? null : new double[size];
+            if (bm25 != null) {
+                for (int i = 0; i < size; i++) idfWeights[i] = weights[i] * bm25.idf().applyAsDouble(keywords.get(i).getTerm());
+            }
+            this.vectors = matcher == Matcher.SEMANTIC ? new float[size][] : null;
+            this.minSimilarity = minSimilarity;
+            if (vectors != null) {
+                for (int i = 0; i < size; i++) vectors[i] = NgramVectors.embed(keywords.get(i).getTerm());
+            }
+        }
+
+        /** 점수에 쓰는 가중치 (BM25 면 IDF 를 곱한 것) */
+        double[] scoreWeights() {
+            return bm25 == null ? weights : idfWeights;
+        }
+
+        public int size() { return size; }
+    }
+
+    public static CompiledKeywords compile(List<Keyword> keywords) {
+        return new CompiledKeywords(keywords, null, Matcher.SUBSTRING, 0f);
+    }
+
+    public static CompiledKeywords compile(List<Keyword> keywords, Bm25 bm25) {
+        return new CompiledKeywords(keywords, bm25, Matcher.SUBSTRING, 0f);
+    }
+
+    /** bm25 가 null 이면 가중치 합. SEMANTIC 이면 유사도가 minSimilarity 이상일 때만 매칭으로 본다. */
+    public static CompiledKeywords compile(List<Keyword> keywords, Bm25 bm25, Matcher matcher, float minSimilarity) {
+        return new CompiledKeywords(keywords, bm25, matcher, minSimilarity);
+    }
+
+    public static PreparedPortfolio prepare(PortfolioFeatures features) {
+        return new PreparedPortfolio(features);
+    }
+
+    /** 스킬별 점수: TECH 키워드와 토큰 매칭되면 가중치를 더한다. */
+    public static double[] scoreSkills(PreparedPortfolio pf, CompiledKeywords kw) {
+        if (kw.vectors != null) {
+            double[] scores = new double[pf.skills.length];
+            scoreSemantic(pf, kw, scores, null, null);
+            return scores;
+        }
+        double[] weights = kw.bm25 == null ? kw.weights : kw.idfWeights; // 스킬은 단어 하나짜리 문서 → BM25 포화 항이 1
+        double[] scores = new double[pf.skills.length];
+        for (int s = 0; s < scores.length; s++) {
+            double total = 0.0;
+            for (int k = 0; k < kw.size; k++) {
+                if (kw.tech[k] && matches(pf.skills[s], kw.prepared[k])) total += weights[k];
+            }
+            scores[s] = total;
+        }
+        return scores;
+    }
+
+    /** 프로젝트별 점수: 기술스택 매칭(가중치 그대로) + 제목/설명/역할 텍스트 매칭(가중치 절반) */
+    public static double[] scoreProjects(PreparedPortfolio pf, CompiledKeywords kw) {
+        if (kw.vectors != null) {
+            double[] scores = new double[pf.texts.length];
+            scoreSemantic(pf, kw, null, scores, null);
+            return scores;
+        }
+        if (kw.bm25 != null) return scoreProjectsBm25(pf, kw, null);
+        double[] scores = new double[pf.texts.length];
+        for (int p = 0; p < scores.length; p++) {
+            double total = 0.0;
+            for (Prepared tech : pf.techs[p]) {
+                for (int k = 0; k < kw.size; k++) {
+                    if (kw.tech[k] && matches(tech, kw.prepared[k])) total += kw.weights[k];
+                }
+            }
+            for (int k = 0; k < kw.size; k++) {
+                if (kw.techOrRole[k] && textContains(pf, p, kw, k)) total += kw.weights[k] * 0.5;
+            }
+            scores[p] = total;
+        }
+        return scores;
+    }
+
+    /**
+     * 포트폴리오 하나(스킬 + 프로젝트)에서 키워드별로 얻은 점수.
+     * 규칙은 scoreSkills/scoreProjects 와 같아서 합계가 두 점수 합계와 같다.
+     */
+    public static double[] keywordContributions(PreparedPortfolio pf, CompiledKeywords kw) {
+        double[] out = new double[kw.size];
+        if (kw.vectors != null) {
+            scoreSemantic(pf, kw, null, null, out);
+            return out;
+        }
+        if (kw.bm25 != null) {
+            for (Prepared skill : pf.skills) {
+                for (int k = 0; k < kw.size; k++) {
+                    if (kw.tech[k] && matches(skill, kw.prepared[k])) out[k] += kw.idfWeights[k];
+                }
+            }
+            scoreProjectsBm25(pf, kw, out);
+            return out;
+        }
+        for (Prepared skill : pf.skills) {
+            for (int k = 0; k < kw.size; k++) {
+                if (kw.tech[k] && matches(skill, kw.prepared[k])) out[k] += kw.weights[k];
+            }
+        }
+        for (int p = 0; p < pf.texts.length; p++) {
+            for (Prepared tech : pf.techs[p]) {
+                for (int k = 0; k < kw.size; k++) {
+                    if (kw.tech[k] && matches(tech, kw.prepared[k])) out[k] += kw.weights[k];
+                }
+            }
+            for (int k = 0; k < kw.size; k++) {
+                if (kw.techOrRole[k] && textContains(pf, p, kw, k)) out[k] += kw.weights[k] * 0.5;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * BM25 프로젝트 점수. 키워드마다 weight * idf * (기술스택 매칭 수 포화 + 0.5 * 텍스트 등장 횟수 포화(길이 정규화)).
+     * contributions 가 있으면 키워드별 점수도 더한다.
+     */
+    private static double[] scoreProjectsBm25(PreparedPortfolio pf, CompiledKeywords kw, double[] contributions) {
+        double k1 = kw.bm25.k1(), b = kw.bm25.b();
+        double[] scores = new double[pf.texts.length];
+        int[] techTf = new int[kw.size];
+        for (int p = 0; p < scores.length; p++) {
+            Arrays.fill(techTf, 0);
+            for (Prepared tech : pf.techs[p]) {
+                for (int k = 0; k < kw.size; k++) {
+                    if (kw.tech[k] && matches(tech, kw.prepared[k])) techTf[k]++;
+                }
+            }
+            double norm = k1 * (1 - b + (pf.avgLength > 0 ? b * pf.lengths[p] / pf.avgLength : b));
+            double total = 0.0;
+            for (int k = 0; k < kw.size; k++) {
+                double gain = 0.0;
+                if (techTf[k] > 0) gain += techTf[k] * (k1 + 1) / (techTf[k] + k1);
+                if (kw.techOrRole[k] && textContains(pf, p, kw, k)) {
+                    int tf = occurrences(pf.texts[p], kw.lowered[k]);
+                    gain += 0.5 * tf * (k1 + 1) / (tf + norm);
+                }
+                if (gain == 0.0) continue;
+                double sc = kw.idfWeights[k] * gain;
+                total += sc;
+                if (contributions != null) contributions[k] += sc;
+            }
+            scores[p] = total;
+        }
+        return scores;
+    }
+
+    /**
+     * SEMANTIC 점수. 규칙은 가중치 합과 같고, 매칭 여부 대신 유사도(minSimilarity 이상)를 곱한다.
+     * - 스킬/기술스택: TECH 키워드와 label 벡터 유사도
+     * - 프로젝트 텍스트: TECH/ROLE 키워드와 가장 가까운 단어의 유사도 (가중치 절반)
+     * 넘긴 배열(null 이 아닌 것)에 스킬별/프로젝트별/키워드별 점수를 더한다.
+     */
+    private static void scoreSemantic(PreparedPortfolio pf, CompiledKeywords kw,
+                                      double[] skillScores, double[] projectScores, double[] contributions) {
+        Vectors v = pf.vectors();
+        double[] weights = kw.scoreWeights();
+        if (skillScores != null || contributions != null) {
+            for (int s = 0; s < v.skills.length; s++) {
+                if (v.skills[s] == null) continue;
+                for (int k = 0; k < kw.size; k++) {
+                    if (!kw.tech[k] || kw.vectors[k] == null) continue;
+                    float sim = NgramVectors.dot(v.skills[s], 0, kw.vectors[k]);
+                    if (sim < kw.minSimilarity) continue;
+                    if (skillScores != null) skillScores[s] += weights[k] * sim;
+                    if (contributions != null) contributions[k] += weights[k] * sim;
+                }
+            }
+        }
+        if (projectScores == null && contributions == null) return;
+        for (int p = 0; p < v.words.length; p++) {
+            double total = 0.0;
+            for (float[] tech : v.techs[p]) {
+                if (tech == null) continue;
+                for (int k = 0; k < kw.size; k++) {
+                    if (!kw.tech[k] || kw.vectors[k] == null) continue;
+                    float sim = NgramVectors.dot(tech, 0, kw.vectors[k]);
+                    if (sim < kw.minSimilarity) continue;
+                    total += weights[k] * sim;
+                    if (contributions != null) contributions[k] += weights[k] * sim;
+                }
+            }
+            for (int k = 0; k < kw.size; k++) {
+                if (!kw.techOrRole[k] || kw.vectors[k] == null) continue;
+                float sim = NgramVectors.maxDot(v.words[p], kw.vectors[k]);
+                if (sim < kw.minSimilarity) continue;
+                total += weights[k] * sim * 0.5;
+                if (contributions != null) contributions[k] += weights[k] * sim * 0.5;
+            }
+            if (projectScores != null) projectScores[p] = total;
+        }
+    }
+
+    /** 매칭 가능한(TECH/ROLE) 키워드 가중치 중 한 번이라도 매칭된 비율 (0~1) */
+    public static double coverage(double[] contributions, CompiledKeywords kw) {
+        double matched = 0.0, total = 0.0;
+        for (int k = 0; k < kw.size; k++) {
+            if (!kw.techOrRole[k]) continue;
+            total += kw.weights[k];
+            if (contributions[k] > 0) matched += kw.weights[k];
+        }
+        return total == 0 ? 0.0 : matched / total;
+    }
+
+    /** 리모델 스킬 순서 (점수 내림차순, 동점이면 같은 이름(rawSkills)이 처음 나온 순서) */
+    public static int[] skillOrder(List<String> rawSkills, PreparedPortfolio pf, CompiledKeywords kw) {
+        return rank(scoreSkills(pf, kw), firstOccurrence(rawSkills));
+    }
+
+    /** 리모델 프로젝트 순서 (점수 내림차순, 동점이면 원래 순서) */
+    public static int[] projectOrder(PreparedPortfolio pf, CompiledKeywords kw) {
+        return rank(scoreProjects(pf, kw));
+    }
+
+    /** 점수 내림차순, 동점이면 원래 위치 순서인 index 배열 */
+    public static int[] rank(double[] scores) {
+        return rank(scores, null);
+    }
+
+    /**
+     * 점수 내림차순 정렬. 동점이면 tieKeys 오름차순, 그것도 같으면 원래 위치 순서.
+     * tieKeys 로 {@link #firstOccurrence(List)} 를 넘기면 기존 indexOf 기반 비교와 같은 순서가 된다.
+     */
+    public static int[] rank(double[] scores, int[] tieKeys) {
+        int n = scores.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        if (n > 1) mergeSort(order, new int[n], 0, n, scores, tieKeys);
+        return order;
+    }
+
+    /** 각 위치의 값이 리스트에서 처음 등장한 index (중복 스킬명 처리용) */
+    public static int[] firstOccurrence(List<?> items) {
+        int[] first = new int[items.size()];
+        Map<Object, Integer> seen = new HashMap<>();
+        for (int i = 0; i < first.length; i++) {
+            Integer prev = seen.putIfAbsent(items.get(i), i);
+            first[i] = prev != null ? prev : i;
+        }
+        return first;
+    }
+
+    /** 프로젝트 p 의 text 에 키워드 k 가 들어 있는지. 3-gram 서명에 없는 조각이 있으면 contains 를 건너뛴다. */
+    private static boolean textContains(PreparedPortfolio pf, int p, CompiledKeywords kw, int k) {
+        long[] sig = pf.sigs[p];
+        long[] need = kw.grams[k];
+        for (int w = 0; w < SIGNATURE_WORDS; w++) {
+            if ((sig[w] & need[w]) != need[w]) return false;
+        }
+        return pf.texts[p].contains(kw.lowered[k]);
+    }
+
+    /** 겹치지 않는 등장 횟수 (needle 이 비어 있으면 1) */
+    private static int occurrences(String text, String needle) {
+        if (needle.isEmpty()) return 1;
+        int count = 0;
+        for (int i = text.indexOf(needle); i >= 0; i = text.indexOf(needle, i + needle.length())) count++;
+        return count;
+    }
+
+    private static int wordCount(String text) {
+        int count = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean space = Character.isWhitespace(text.charAt(i));
+            if (!space && !inWord) count++;
+            inWord = !space;
+        }
+        return count;
+    }
+
+    // 512비트 (긴 설명도 비트가 절반 이하로 차도록)
+    static final int SIGNATURE_WORDS = 8;
+
+    /** 문자 3-gram 마다 비트 하나를 켠 서명. 3글자 미만이면 빈 서명 (필터 없음) */
+    static long[] trigramSignature(String s) {
+        long[] sig = new long[SIGNATURE_WORDS];
+        for (int i = 0; i + 3 <= s.length(); i++) {
+            int h = (s.charAt(i) * 31 + s.charAt(i + 1)) * 31 + s.charAt(i + 2);
+            h *= 0x9E3779B1;
+            int bit = h >>> (32 - 9); // 상위 9비트 → 0..511
+            sig[bit >>> 6] |= 1L << (bit & 63);
+        }
+        return sig;
+    }
+
+    // ======== 매칭 규칙 (기존 containsToken 과 동일) ========
+    static boolean matches(Prepared token, Prepared needle) {
+        if (!token.hasText || !needle.hasText) return false;
+        String a = token.normalized;
+        String b = needle.normalized;
+
+        // 1. 완전 일치 / 2. 포함 관계
+        if (a.equals(b) || a.contains(b) || b.contains(a)) return true;
+
+        // 3. 토큰 단위 비교: 모든 B 토큰이 A 토큰 중 하나와 포함 관계
+        for (String tb : needle.tokens) {
+            boolean found = false;
+            for (String ta : token.tokens) {
+                if (ta.contains(tb) || tb.contains(ta)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) return false;
+        }
+        return true;
+    }
+
+    /** 소문자화 후 [a-z0-9+#.-] 외 문자를 공백으로, 연속 공백 축약, trim */
+    static String normalize(String token) {
+        if (token == null) return "";
+        String lower = token.toLowerCase();
+        StringBuilder sb = new StringBuilder(lower.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            boolean keep = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '#' || c == '.' || c == '-';
+            if (!keep) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /** 정규화된 문자열을 공백 기준으로 분리 (split("\\s+") 와 동일한 결과) */
+    static String[] tokenize(String normalized) {
+        if (normalized.isEmpty()) return new String[] { "" };
+        int count = 1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) == ' ') count++;
+        }
+        String[] out = new String[count];
+        int start = 0, idx = 0;
+        for (int i = 0; i <= normalized.length(); i++) {
+            if (i == normalized.length() || normalized.charAt(i) == ' ') {
+                out[idx++] = normalized.substring(start, i);
+                start = i + 1;
+            }
+        }
+        return out;
+    }
+
+    private static void mergeSort(int[] a, int[] tmp, int from, int to, double[] scores, int[] tieKeys) {
+        if (to - from < 2) return;
+        int mid = (from + to) >>> 1;
+        mergeSort(a, tmp, from, mid, scores, tieKeys);
+        mergeSort(a, tmp, mid, to, scores, tieKeys);
+        int i = from, j = mid, k = from;
+        while (i < mid && j < to) {
+            // 점수 내림차순; 같으면 tieKey, 그래도 같으면 왼쪽(원래 앞쪽) 우선 → 안정 정렬
+            int c = Double.compare(scores[a[j]], scores[a[i]]);
+            if (c == 0 && tieKeys != null) c = Integer.compare(tieKeys[a[i]], tieKeys[a[j]]);
+            if (c > 0) tmp[k++] = a[j++];
+            else tmp[k++] = a[i++];
+        }
+        while (i < mid) tmp[k++] = a[i++];
+        while (j < to) tmp[k++] = a[j++];
+        System.arraycopy(tmp, from, a, from, to - from);
+    }
+}
@@ -0,0 +1,195 @@
+// src/main/java/com/example/portfolioai/service/RemodelAssembler.java
+package com.example.portfolioai.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.stereotype.Component;
+
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 리모델 결과(키워드별 섹션 순서) → 프론트엔드 스키마(PortfolioDocument) 변환.
+ * 기존 항목(아이콘, 이미지, 링크 등)은 그대로 두고 순서만 바꾼다.
+ * REMODEL 행은 기본 포트폴리오 대비 섹션별 순서(index)와 제목만 담은 overlay 로 저장한다.
+ */
+@Component
+public class RemodelAssembler {
+
+    // FE 스키마 섹션 (출력 순서)
+    public static final List<String> SECTIONS = List.of(
+            "name", "role", "contacts", "introduction", "skills",
+            "experiences", "projects", "educations", "certifications", "awards");
+
+    // 순서를 바꾸는 목록 섹션 (overlay 의 order 에 들어가는 것)
+    public static final List<String> ORDERED_SECTIONS = List.of(
+            "contacts", "skills", "experiences", "projects", "educations", "certifications", "awards");
+
+    public static final String OVERLAY_MARKER = "$overlay";
+
+    /**
+     * 저장용 overlay: { "$overlay": 1, "title"?, "order": { 섹션: [기본 포트폴리오 index...] }, "matcher"? } (마커가 맨 앞이어야 한다)
+     * matcher 는 SEMANTIC 으로 만든 것만 적는다 (없으면 SUBSTRING). 기본 포트폴리오가 바뀌어 다시 정렬할 때 같은 방식을 쓴다.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonPropertyOrder({ OVERLAY_MARKER, "title", "order", "matcher" })
+    public record Overlay(@JsonProperty(OVERLAY_MARKER) int version, String title, Map<String, int[]> order, String matcher) {
+        public Overlay {
+            order = order == null ? Map.of() : order;
+        }
+
+        public RankingKernel.Matcher matcherOrDefault() {
+            try {
+                return RankingKernel.Matcher.of(matcher, RankingKernel.Matcher.SUBSTRING);
+            } catch (IllegalArgumentException e) {
+                return RankingKernel.Matcher.SUBSTRING;
+            }
+        }
+    }
+
+    private final ObjectMapper om;
+    private final PostingTermStats termStats;
+
+    public RemodelAssembler(ObjectMapper om, PostingTermStats termStats) {
+        this.om = om;
+        this.termStats = termStats;
+    }
+
+    /**
+     * 기본 포트폴리오 기준 섹션별 리모델 순서 (sections 에 든 목록 섹션만).
+     * skills/projects 는 키워드 매칭 점수(RankingKernel, remodel.scoring.mode), 나머지는 항목 JSON 에 키워드가 들어 있는지로 정렬한다.
+     */
+    public Map<String, int[]> orders(RemodelMaterializer.View base, List<Keyword> keywords, Collection<String> sections,
+                                     RankingKernel.Matcher matcher) {
+        PortfolioDocument doc = base.doc();
+        RankingKernel.CompiledKeywords compiled = termStats.compile(keywords, matcher);
+        ToDoubleFunction<Object> scoreOf = scorer(keywords);
+        Map<String, int[]> out = new LinkedHashMap<>();
+        for (String section : ORDERED_SECTIONS) {
+            if (!sections.contains(section)) continue;
+            out.put(section, switch (section) {
+                case "skills" -> RankingKernel.skillOrder(PortfolioFeatures.skillNames(doc), base.prepared(), compiled);
+                case "projects" -> RankingKernel.projectOrder(base.prepared(), compiled);
+                default -> sortedOrder(doc.section(section), scoreOf);
+            });
+        }
+        return out;
+    }
+
+    public Overlay toOverlay(Map<String, int[]> orders, String title, RankingKernel.Matcher matcher) {
+        return new Overlay(1, title != null && !title.isBlank() ? title.trim() : null, orders,
+                matcher == RankingKernel.Matcher.SEMANTIC ? "semantic" : null);
+    }
+
+    /**
+     * 저장된 overlay 의 섹션별 순서. 지금 기본 포트폴리오 항목 수와 맞지 않는(올바른 순열이 아닌) 섹션은 빠진다.
+     */
+    public Map<String, int[]> overlayOrders(Overlay overlay, PortfolioDocument base) {
+        Map<String, int[]> out = new LinkedHashMap<>();
+        for (String section : ORDERED_SECTIONS) {
+            int[] order = overlay.order().get(section);
+            if (order != null && isPermutation(order, base.section(section).size())) out.put(section, order);
+        }
+        return out;
+    }
+
+    /**
+     * overlay 순서를 기본 포트폴리오에 적용한 문서. orders 에 없는 목록 섹션은 기본 순서 그대로.
+     * 항목 객체와 모르는 필드(extra)는 기본 문서와 공유한다 (파싱 뒤로는 읽기 전용).
+     */
+    public PortfolioDocument fromOverlay(PortfolioDocument base, Map<String, int[]> orders, String title) {
+        return new PortfolioDocument(
+                base.name(),
+                base.role(),
+                pick(base.contacts(), orders.get("contacts")),
+                base.introduction(),
+                pick(base.skills(), orders.get("skills")),
+                pick(base.experiences(), orders.get("experiences")),
+                pick(base.projects(), orders.get("projects")),
+                pick(base.educations(), orders.get("educations")),
+                pick(base.certifications(), orders.get("certifications")),
+                pick(base.awards(), orders.get("awards")),
+                title != null && !title.isBlank() ? title.trim() : null,
+                base.extra());
+    }
+
+    /** 섹션별 내용 해시 (기본 포트폴리오의 어느 섹션이 바뀌었는지 비교용) */
+    public Map<String, String> sectionHashes(PortfolioDocument doc) {
+        Map<String, String> out = new LinkedHashMap<>();
+        try {
+            for (String section : SECTIONS) {
+                Object value = switch (section) {
+                    case "name" -> doc.name();
+                    case "role" -> doc.role();
+                    case "introduction" -> doc.introduction();
+                    default -> doc.section(section);
+                };
+                MessageDigest md = MessageDigest.getInstance("SHA-256");
+                byte[] digest = md.digest(om.writeValueAsBytes(value));
+                out.put(section, HexFormat.of().formatHex(digest, 0, 16));
+            }
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("섹션 해시 계산 실패", e);
+        }
+        return out;
+    }
+
+    /** 기타 섹션 항목 점수: TECH/ROLE 키워드가 항목 JSON 에 포함되면 가중치 합산 */
+    private ToDoubleFunction<Object> scorer(List<Keyword> keywords) {
+        List<Keyword> matchable = new ArrayList<>(keywords.size());
+        for (var k : keywords) {
+            if (k.getKind() == Keyword.Kind.TECH || k.getKind() == Keyword.Kind.ROLE) matchable.add(k);
+        }
+        String[] lowered = new String[matchable.size()];
+        for (int i = 0; i < lowered.length; i++) lowered[i] = matchable.get(i).getTerm().toLowerCase();
+        return item -> textScore(om.valueToTree(item).toString().toLowerCase(), matchable, lowered);
+    }
+
+    /** 점수 내림차순 (동점이면 기존 순서). 항목마다 점수는 한 번만 계산한다. */
+    private static int[] sortedOrder(List<?> items, ToDoubleFunction<Object> scoreOf) {
+        double[] scores = new double[items.size()];
+        for (int i = 0; i < scores.length; i++) scores[i] = scoreOf.applyAsDouble(items.get(i));
+        return RankingKernel.rank(scores);
+    }
+
+    private static boolean isPermutation(int[] order, int size) {
+        if (order.length != size) return false;
+        boolean[] seen = new boolean[size];
+        for (int idx : order) {
+            if (idx < 0 || idx >= size || seen[idx]) return false;
+            seen[idx] = true;
+        }
+        return true;
+    }
+
+    /** order 순서대로 뽑은 목록 (order 가 null 이면 원래 목록) */
+    private static <T> List<T> pick(List<T> items, int[] order) {
+        if (order == null) return items;
+        List<T> out = new ArrayList<>(order.length);
+        for (int i : order) out.add(items.get(i));
+        return Collections.unmodifiableList(out);
+    }
+
+    /** txt 는 소문자로 넘긴다 */
+    private static double textScore(String txt, List<Keyword> matchable, String[] lowered) {
+        double sc = 0.0;
+        for (int i = 0; i < lowered.length; i++) {
+            if (txt.contains(lowered[i])) sc += matchable.get(i).getWeight();
+        }
+        return sc;
+    }
+}
@@ -0,0 +1,274 @@
+// src/main/java/com/example/portfolioai/service/RemodelBatchService.java
+package com.example.portfolioai.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.portfolioai.dto.BatchRemodelReq;
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.example.portfolioai.portfolio.PortfolioEntity;
+import com.example.portfolioai.service.JobPostingStore.StoredPosting;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 기본 포트폴리오 하나 × 채용공고 N개 일괄 리모델.
+ * - 기본 포트폴리오는 한 번만 읽고 파싱해서 모든 공고가 공유한다 (읽기 전용).
+ * - 공고 크롤링/분석/점수화는 전용 풀에서 동시에 돌리고 (풀 크기 = 동시 실행 상한), 실패는 항목별로 모은다.
+ * - 성공한 항목은 짧은 트랜잭션 하나에서 JDBC 배치 INSERT 로 저장한다 (data_json 은 overlay).
+ */
+@Service
+public class RemodelBatchService implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(RemodelBatchService.class);
+
+    private static final String INSERT_REMODEL =
+            "insert into portfolio (owner_email, kind, data_json, updated_at, source_posting_id, keywords_json, base_portfolio_id, base_section_hashes)"
+            + " values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /** 저장 대기 중인 성공 항목 */
+    private record Built(int index, String title, Long postingId, PortfolioDocument data, String dataJson, String keywordsJson) {}
+
+    private final RemodelBuildService service;
+    private final RemodelPipeline pipeline;
+    private final RemodelAssembler assembler;
+    private final RemodelMaterializer materializer;
+    private final PostingTermStats termStats;
+    private final ObjectMapper om;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final MeterRegistry meters;
+    private final ThreadPoolExecutor executor;
+    private final int maxItems;
+    private final Duration deadline;
+
+    public RemodelBatchService(RemodelBuildService service, RemodelPipeline pipeline, RemodelAssembler assembler,
+                               RemodelMaterializer materializer, PostingTermStats termStats, ObjectMapper om, JdbcTemplate jdbc,
+                               PlatformTransactionManager txManager,
+                               MeterRegistry meters,
+                               @Value("${remodel.batch.concurrency:6}") int concurrency,
+                               @Value("${remodel.batch.queue-capacity:256}") int queueCapacity,
+                               @Value("${remodel.batch.max-items:50}") int maxItems,
+                               @Value("${remodel.batch.deadline:2m}") Duration deadline) {
+        this.service = service;
+        this.pipeline = pipeline;
+        this.assembler = assembler;
+        this.materializer = materializer;
+        this.termStats = termStats;
+        this.om = om;
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.meters = meters;
+        this.maxItems = maxItems;
+        this.deadline = deadline;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "remodel-batch-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 일괄 리모델. 항목 순서대로 { index, title, status, (id, kind, data) | (error, httpStatus) } 를 돌려준다.
+     * 기본 포트폴리오 권한/존재 오류만 전체 실패(403/404)이고, 공고별 오류는 해당 항목만 failed.
+     */
+    public Map<String, Object> run(BatchRemodelReq req, String email) {
+        List<BatchRemodelReq.Posting> postings = req.getPostings();
+        if (postings == null || postings.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "postings 가 비어 있습니다.");
+        }
+        if (postings.size() > maxItems) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + maxItems + "개까지 요청할 수 있습니다.");
+        }
+        Timer.Sample sample = Timer.start(meters);
+
+        RankingKernel.Matcher matcher = termStats.matcher(req.getMatcher());
+
+        // 0. 기본 포트폴리오는 한 번만 읽고 파싱
+        PortfolioEntity base = pipeline.requireOwnedBase(req.getBasePortfolioId(), email);
+        RemodelMaterializer.View baseView = materializer.view(base);
+
+        // 1. 공고별 분석/점수화/변환을 동시에
+        int n = postings.size();
+        List<Future<Built>> futures = new ArrayList<>(n);
+        Object[] results = new Object[n]; // Built 또는 실패 항목 Map
+        for (int i = 0; i < n; i++) {
+            int index = i;
+            BatchRemodelReq.Posting p = postings.get(i);
+            try {
+                futures.add(executor.submit(() -> build(index, p, baseView, matcher)));
+            } catch (RejectedExecutionException e) {
+                futures.add(null);
+                results[i] = failed(index, p.getTitle(), HttpStatus.SERVICE_UNAVAILABLE, "리모델 작업이 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        }
+        long deadlineAt = System.nanoTime() + deadline.toNanos();
+        for (int i = 0; i < n; i++) {
+            Future<Built> f = futures.get(i);
+            if (f == null) continue;
+            String title = postings.get(i).getTitle();
+            try {
+                results[i] = f.get(Math.max(0, deadlineAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | CancellationException e) {
+                f.cancel(true);
+                results[i] = failed(i, title, HttpStatus.GATEWAY_TIMEOUT, "리모델 처리 시간이 초과되었습니다.");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof ResponseStatusException rse) {
+                    results[i] = failed(i, title, HttpStatus.valueOf(rse.getStatusCode().value()), rse.getReason());
+                } else {
+                    logger.warn("일괄 리모델 항목 실패: index = {}, 에러 = {}", i, cause.getMessage());
+                    results[i] = failed(i, title, HttpStatus.INTERNAL_SERVER_ERROR, cause.getMessage());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(x -> { if (x != null) x.cancel(true); });
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "리모델 처리가 취소되었습니다.");
+            }
+        }
+
+        // 2. 성공 항목을 배치 INSERT (짧은 쓰기 트랜잭션 하나)
+        List<Built> built = new ArrayList<>(n);
+        for (Object r : results) {
+            if (r instanceof Built b) built.add(b);
+        }
+        List<Long> ids;
+        try {
+            ids = built.isEmpty() ? List.of()
+                    : insert(req.getBasePortfolioId(), email, built, om.writeValueAsString(materializer.hashes(baseView)));
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "리모델 저장 실패");
+        }
+
+        List<Map<String, Object>> items = new ArrayList<>(n);
+        int ok = 0;
+        for (int i = 0, b = 0; i < n; i++) {
+            if (results[i] instanceof Built item) {
+                Map<String, Object> out = new LinkedHashMap<>();
+                out.put("index", item.index());
+                out.put("title", item.title());
+                out.put("status", "ok");
+                out.put("id", ids.get(b++));
+                out.put("kind", PortfolioEntity.Kind.REMODEL.name());
+                out.put("data", item.data());
+                items.add(out);
+                ok++;
+            } else {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> failure = (Map<String, Object>) results[i];
+                items.add(failure);
+            }
+        }
+        meters.counter("remodel.batch.items", "result", "ok").increment(ok);
+        meters.counter("remodel.batch.items", "result", "failed").increment(n - ok);
+        sample.stop(meters.timer("remodel.batch"));
+        logger.info("일괄 리모델 완료: base = {}, 성공 {}개 / 전체 {}개", req.getBasePortfolioId(), ok, n);
+
+        Map<String, Object> res = new LinkedHashMap<>();
+        res.put("basePortfolioId", req.getBasePortfolioId());
+        res.put("succeeded", ok);
+        res.put("failed", n - ok);
+        res.put("items", items);
+        return res;
+    }
+
+    private Built build(int index, BatchRemodelReq.Posting p, RemodelMaterializer.View base, RankingKernel.Matcher matcher)
+            throws JsonProcessingException {
+        StoredPosting posting = service.analyzePosting(p.getSourceType(), p.getValue());
+        List<Keyword> keywords = posting.analysis().keywords();
+        Map<String, int[]> orders = assembler.orders(base, keywords, RemodelAssembler.ORDERED_SECTIONS, matcher);
+        PortfolioDocument feData = assembler.fromOverlay(base.doc(), orders, p.getTitle());
+        return new Built(index, p.getTitle(), posting.id(), feData,
+                om.writeValueAsString(assembler.toOverlay(orders, p.getTitle(), matcher)), om.writeValueAsString(keywords));
+    }
+
+    /** 기본 포트폴리오를 다시 확인하고 REMODEL 행들을 한 번의 배치로 INSERT. 생성된 id 를 순서대로 돌려준다. */
+    private List<Long> insert(Long basePortfolioId, String email, List<Built> built, String baseHashes) {
+        OffsetDateTime now = OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        return tx.execute(status -> {
+            // 분석하는 동안 기본 포트폴리오가 지워졌을 수 있다
+            pipeline.requireOwnedBase(basePortfolioId, email);
+            GeneratedKeyHolder keys = new GeneratedKeyHolder();
+            jdbc.batchUpdate(con -> con.prepareStatement(INSERT_REMODEL, new String[] { "id" }),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Built b = built.get(i);
+                            ps.setString(1, email);
+                            ps.setString(2, PortfolioEntity.Kind.REMODEL.name());
+                            ps.setString(3, b.dataJson());
+                            ps.setObject(4, now);
+                            if (b.postingId() == null) ps.setNull(5, Types.BIGINT);
+                            else ps.setLong(5, b.postingId());
+                            ps.setString(6, b.keywordsJson());
+                            ps.setLong(7, basePortfolioId);
+                            ps.setString(8, baseHashes);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return built.size();
+                        }
+                    }, keys);
+            List<Long> ids = new ArrayList<>(built.size());
+            for (Map<String, Object> row : keys.getKeyList()) {
+                ids.add(((Number) row.get("id")).longValue());
+            }
+            return ids;
+        });
+    }
+
+    private static Map<String, Object> failed(int index, String title, HttpStatus status, String error) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("index", index);
+        out.put("title", title);
+        out.put("status", "failed");
+        out.put("httpStatus", status.value());
+        out.put("error", error);
+        return out;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,209 @@
+// src/main/java/com/example/portfolioai/service/RemodelJobService.java
+package com.example.portfolioai.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.portfolioai.dto.BuildRemodelReq;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 비동기 리모델 작업.
+ * 요청 스레드는 작업 id 만 받아 바로 돌아가고, 파이프라인은 크기가 정해진 전용 풀에서 돈다.
+ * 진행 단계는 SSE 로 밀어주고, 같은 내용을 폴링 API 로도 볼 수 있다.
+ * 풀/대기열이 가득 차면 503 으로 거절한다 (요청 스레드를 붙잡지 않음).
+ */
+@Service
+public class RemodelJobService implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(RemodelJobService.class);
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    /** 작업 하나의 상태. 상태 변경과 SSE 전송은 이 객체로 동기화한다. */
+    public static final class RemodelJob {
+        private final String id;
+        private final String ownerEmail;
+        private final Instant createdAt = Instant.now();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private Status status = Status.QUEUED;
+        private RemodelProgress.Stage stage;
+        private Map<String, Object> result;
+        private String error;
+        private Instant finishedAt;
+
+        RemodelJob(String id, String ownerEmail) {
+            this.id = id;
+            this.ownerEmail = ownerEmail;
+        }
+
+        public String getId() { return id; }
+
+        public synchronized boolean isFinished() {
+            return status == Status.DONE || status == Status.FAILED;
+        }
+
+        public synchronized Map<String, Object> snapshot() {
+            Map<String, Object> out = new LinkedHashMap<>();
+            out.put("jobId", id);
+            out.put("status", status.name());
+            out.put("stage", stage == null ? null : stage.name());
+            out.put("createdAt", createdAt.toString());
+            if (result != null) out.put("result", result);
+            if (error != null) out.put("error", error);
+            return out;
+        }
+    }
+
+    private final RemodelPipeline pipeline;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentHashMap<String, RemodelJob> jobs = new ConcurrentHashMap<>();
+    private final Duration retainFor;
+    private final Duration sseTimeout;
+
+    public RemodelJobService(RemodelPipeline pipeline,
+                             MeterRegistry meters,
+                             @Value("${remodel.jobs.threads:4}") int threads,
+                             @Value("${remodel.jobs.queue-capacity:32}") int queueCapacity,
+                             @Value("${remodel.jobs.retain-for:10m}") Duration retainFor,
+                             @Value("${remodel.jobs.sse-timeout:2m}") Duration sseTimeout) {
+        this.pipeline = pipeline;
+        this.retainFor = retainFor;
+        this.sseTimeout = sseTimeout;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "remodel-job-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("remodel.jobs.active", executor, ThreadPoolExecutor::getActiveCount).register(meters);
+        Gauge.builder("remodel.jobs.queued", executor, e -> e.getQueue().size()).register(meters);
+        Gauge.builder("remodel.jobs.retained", jobs, Map::size).register(meters);
+    }
+
+    /** 작업 등록. 바로 QUEUED 상태를 돌려준다. */
+    public RemodelJob submit(BuildRemodelReq req, String email) {
+        purgeExpired();
+        RemodelJob job = new RemodelJob(UUID.randomUUID().toString(), email);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, req));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "리모델 작업이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        logger.info("리모델 작업 등록: jobId = {}, 대기 {}개", job.id, executor.getQueue().size());
+        return job;
+    }
+
+    /** 본인 작업만 조회 (없거나 남의 작업이면 404) */
+    public RemodelJob get(String jobId, String email) {
+        RemodelJob job = jobs.get(jobId);
+        if (job == null || !job.ownerEmail.equals(email)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "리모델 작업을 찾을 수 없습니다.");
+        }
+        return job;
+    }
+
+    /** 진행 상황 SSE. 현재 상태를 먼저 보내고, 이미 끝난 작업이면 결과를 보내고 닫는다. */
+    public SseEmitter subscribe(RemodelJob job) {
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(e -> job.emitters.remove(emitter));
+        synchronized (job) {
+            try {
+                emitter.send(SseEmitter.event().name("status").data(job.snapshot()));
+                if (job.isFinished()) {
+                    emitter.send(SseEmitter.event().name(job.status == Status.DONE ? "done" : "error").data(job.snapshot()));
+                    emitter.complete();
+                    return emitter;
+                }
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                return emitter;
+            }
+            job.emitters.add(emitter);
+        }
+        return emitter;
+    }
+
+    private void run(RemodelJob job, BuildRemodelReq req) {
+        update(job, Status.RUNNING, null, "status");
+        try {
+            Map<String, Object> result = pipeline.run(req, job.ownerEmail, stage -> update(job, null, stage, "stage"));
+            synchronized (job) {
+                job.result = result;
+            }
+            update(job, Status.DONE, null, "done");
+        } catch (Exception e) {
+            logger.warn("리모델 작업 실패: jobId = {}, 에러 = {}", job.id, e.getMessage());
+            synchronized (job) {
+                job.error = e instanceof ResponseStatusException rse ? rse.getReason() : e.getMessage();
+            }
+            update(job, Status.FAILED, null, "error");
+        }
+    }
+
+    private void update(RemodelJob job, Status status, RemodelProgress.Stage stage, String event) {
+        synchronized (job) {
+            if (status != null) job.status = status;
+            if (stage != null) job.stage = stage;
+            boolean finished = job.isFinished();
+            if (finished) job.finishedAt = Instant.now();
+            Map<String, Object> snapshot = job.snapshot();
+            for (SseEmitter emitter : job.emitters) {
+                try {
+                    emitter.send(SseEmitter.event().name(event).data(snapshot));
+                    if (finished) emitter.complete();
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 끊은 경우
+                    job.emitters.remove(emitter);
+                }
+            }
+            if (finished) job.emitters.clear();
+        }
+    }
+
+    /** 끝난 지 retain-for 가 지난 작업 정리 */
+    private void purgeExpired() {
+        Instant cutoff = Instant.now().minus(retainFor);
+        jobs.values().removeIf(job -> {
+            synchronized (job) {
+                return job.finishedAt != null && job.finishedAt.isBefore(cutoff);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
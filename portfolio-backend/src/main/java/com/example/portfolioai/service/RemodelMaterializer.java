@@ -0,0 +1,243 @@
+// src/main/java/com/example/portfolioai/service/RemodelMaterializer.java
+package com.example.portfolioai.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.example.portfolioai.portfolio.PortfolioEntity;
+import com.example.portfolioai.portfolio.PortfolioRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 포트폴리오 data_json 읽기. Jackson 으로 PortfolioDocument 에 바로 한 번만 파싱한다.
+ * REMODEL 은 기본 포트폴리오 위의 overlay(섹션 순서 + 제목)로 저장되므로, 읽을 때 기본 포트폴리오에 순서를 적용해 만든다.
+ * - 기본 포트폴리오가 overlay 를 만든 뒤 바뀌었으면(섹션 해시 불일치) 그 섹션만 저장된 키워드로 메모리에서 다시 정렬한다.
+ *   DB 반영은 RemodelRefreshService 가 한다.
+ * - 결과는 (id, updatedAt, 기본 포트폴리오 id/updatedAt) 기준으로 캐시한다. 항목 객체는 기본 포트폴리오 View 와 공유된다.
+ *   캐시가 맞으면 기본 포트폴리오를 다시 파싱하지 않는다. 목록 조회는 views 로 기본 포트폴리오를 한 번에 읽는다.
+ */
+@Service
+public class RemodelMaterializer {
+    private static final Logger logger = LoggerFactory.getLogger(RemodelMaterializer.class);
+
+    /** 읽기 전용으로 공유되는 포트폴리오 문서 */
+    public static final class View {
+        private final Instant updatedAt;
+        private final Long baseId;           // overlay 면 읽을 때 쓴 기본 포트폴리오 id/updatedAt
+        private final Instant baseUpdatedAt;
+        private final View base;             // 기본 포트폴리오가 다시 overlay 일 때만 비교에 쓴다
+        private final PortfolioDocument doc;
+        private volatile Map<String, String> hashes;
+        private volatile PortfolioFeatures features;
+        private volatile RankingKernel.PreparedPortfolio prepared;
+
+        private View(Instant updatedAt, PortfolioEntity baseEntity, View base, PortfolioDocument doc) {
+            this.updatedAt = updatedAt;
+            this.baseId = baseEntity == null ? null : baseEntity.getId();
+            this.baseUpdatedAt = baseEntity == null ? null : baseEntity.getUpdatedAt();
+            this.base = base;
+            this.doc = doc;
+        }
+
+        public PortfolioDocument doc() { return doc; }
+
+        /** 매칭용 특징 (View 마다 한 번만 정규화) */
+        public PortfolioFeatures features() {
+            PortfolioFeatures f = features;
+            if (f == null) {
+                f = PortfolioFeatures.of(doc);
+                features = f;
+            }
+            return f;
+        }
+
+        public RankingKernel.PreparedPortfolio prepared() {
+            RankingKernel.PreparedPortfolio p = prepared;
+            if (p == null) {
+                p = RankingKernel.prepare(features());
+                prepared = p;
+            }
+            return p;
+        }
+    }
+
+    private final RemodelAssembler assembler;
+    private final PortfolioRepository portfolioRepo;
+    private final ObjectMapper om;
+    private final MeterRegistry meters;
+    private final int maxEntries;
+    private final LinkedHashMap<Long, View> views;
+
+    public RemodelMaterializer(RemodelAssembler assembler, PortfolioRepository portfolioRepo, ObjectMapper om, MeterRegistry meters,
+                               @Value("${remodel.overlay.cache.max-entries:512}") int maxEntries) {
+        this.assembler = assembler;
+        this.portfolioRepo = portfolioRepo;
+        this.om = om;
+        this.meters = meters;
+        this.maxEntries = maxEntries;
+        this.views = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, View> eldest) {
+                return size() > RemodelMaterializer.this.maxEntries;
+            }
+        };
+    }
+
+    /** FE 스키마 문서 (읽기 전용). 파싱할 수 없으면 PortfolioDocument.EMPTY */
+    public PortfolioDocument read(PortfolioEntity entity) {
+        return view(entity).doc();
+    }
+
+    /** FE 데이터를 JSON 으로 (overlay 를 풀어서 독립된 행으로 만들 때) */
+    public String fullJson(PortfolioEntity entity) throws JsonProcessingException {
+        return om.writeValueAsString(read(entity));
+    }
+
+    public boolean isOverlay(PortfolioEntity entity) {
+        return entity.getDataJson() != null && entity.getDataJson().startsWith("{\"" + RemodelAssembler.OVERLAY_MARKER + "\"");
+    }
+
+    /** 리모델을 만들 때 쓴 매처 (overlay 에 적힌 것, 예전 행이나 파싱 실패면 SUBSTRING) */
+    public RankingKernel.Matcher matcher(PortfolioEntity entity) {
+        if (!isOverlay(entity)) return RankingKernel.Matcher.SUBSTRING;
+        try {
+            return om.readValue(entity.getDataJson(), RemodelAssembler.Overlay.class).matcherOrDefault();
+        } catch (JsonProcessingException e) {
+            return RankingKernel.Matcher.SUBSTRING;
+        }
+    }
+
+    /** 리모델이 순서를 바꾸는 대상: overlay 면 기본 포트폴리오, 예전 전체 복사본이면 자기 자신 */
+    public View source(PortfolioEntity entity) {
+        if (!isOverlay(entity)) return view(entity);
+        PortfolioEntity base = loadBase(entity);
+        return base != null ? view(base) : view(entity);
+    }
+
+    /** 섹션별 내용 해시 (View 마다 한 번만 계산) */
+    public Map<String, String> hashes(View view) {
+        Map<String, String> h = view.hashes;
+        if (h == null) {
+            h = assembler.sectionHashes(view.doc());
+            view.hashes = h;
+        }
+        return h;
+    }
+
+    public View view(PortfolioEntity entity) {
+        return view(entity, isOverlay(entity) ? loadBase(entity) : null);
+    }
+
+    /**
+     * 여러 행의 View (입력 순서대로). overlay 의 기본 포트폴리오는 목록에 없는 것만 findAllById 한 번으로 읽는다
+     * (행마다 findById 하지 않도록).
+     */
+    public List<View> views(List<PortfolioEntity> entities) {
+        Map<Long, PortfolioEntity> loaded = new HashMap<>();
+        for (PortfolioEntity e : entities) loaded.put(e.getId(), e);
+        Set<Long> missing = new HashSet<>();
+        for (PortfolioEntity e : entities) {
+            Long baseId = e.getBasePortfolioId();
+            if (baseId != null && !loaded.containsKey(baseId) && isOverlay(e)) missing.add(baseId);
+        }
+        if (!missing.isEmpty()) {
+            for (PortfolioEntity b : portfolioRepo.findAllById(missing)) loaded.put(b.getId(), b);
+        }
+        List<View> out = new ArrayList<>(entities.size());
+        for (PortfolioEntity e : entities) {
+            boolean overlay = isOverlay(e);
+            out.add(view(e, overlay && e.getBasePortfolioId() != null ? loaded.get(e.getBasePortfolioId()) : null));
+        }
+        return out;
+    }
+
+    /** baseEntity: overlay 면 읽어 둔 기본 포트폴리오 (없으면 null), 아니면 null */
+    private View view(PortfolioEntity entity, PortfolioEntity baseEntity) {
+        View cached;
+        synchronized (this) {
+            cached = views.get(entity.getId());
+        }
+        boolean overlay = isOverlay(entity);
+        // 기본 포트폴리오가 다시 overlay 면 그 기본까지 봐야 하므로 View 로 비교
+        View nestedBase = baseEntity != null && isOverlay(baseEntity) ? view(baseEntity) : null;
+        if (cached != null
+                && Objects.equals(cached.updatedAt, entity.getUpdatedAt())
+                && Objects.equals(cached.baseId, baseEntity == null ? null : baseEntity.getId())
+                && Objects.equals(cached.baseUpdatedAt, baseEntity == null ? null : baseEntity.getUpdatedAt())
+                && cached.base == nestedBase) {
+            meters.counter("portfolio.view.cache", "result", "hit").increment();
+            return cached;
+        }
+        meters.counter("portfolio.view.cache", "result", "miss").increment();
+
+        View base = nestedBase != null ? nestedBase : baseEntity != null ? view(baseEntity) : null;
+        PortfolioDocument doc;
+        try {
+            doc = overlay
+                    ? materialize(entity, om.readValue(entity.getDataJson(), RemodelAssembler.Overlay.class), base)
+                    : om.readValue(entity.getDataJson(), PortfolioDocument.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            logger.warn("포트폴리오 읽기 실패: id = {}, 에러 = {}", entity.getId(), e.getMessage());
+            doc = PortfolioDocument.EMPTY;
+        }
+        View view = new View(entity.getUpdatedAt(), baseEntity, nestedBase, doc == null ? PortfolioDocument.EMPTY : doc);
+        synchronized (this) {
+            views.put(entity.getId(), view);
+        }
+        return view;
+    }
+
+    private PortfolioEntity loadBase(PortfolioEntity entity) {
+        if (entity.getBasePortfolioId() == null) return null;
+        return portfolioRepo.findById(entity.getBasePortfolioId()).orElse(null);
+    }
+
+    private PortfolioDocument materialize(PortfolioEntity entity, RemodelAssembler.Overlay overlay, View base)
+            throws JsonProcessingException {
+        if (base == null) {
+            // 기본 포트폴리오 삭제 시 overlay 를 먼저 풀어 두므로 정상적으로는 없는 경우
+            logger.warn("기본 포트폴리오 없는 overlay: id = {}", entity.getId());
+            return PortfolioDocument.EMPTY;
+        }
+        Map<String, int[]> orders = assembler.overlayOrders(overlay, base.doc());
+        Set<String> stale = staleSections(entity.getBaseSectionHashes(), hashes(base));
+        for (String section : RemodelAssembler.ORDERED_SECTIONS) {
+            if (!orders.containsKey(section)) stale.add(section);
+        }
+        // 키워드가 없으면 순열이 맞지 않는 섹션만 기본 순서가 된다
+        if (!stale.isEmpty() && entity.getKeywordsJson() != null) {
+            List<Keyword> keywords = om.readValue(entity.getKeywordsJson(), new TypeReference<>(){});
+            orders.putAll(assembler.orders(base, keywords, stale, overlay.matcherOrDefault()));
+        }
+        return assembler.fromOverlay(base.doc(), orders, overlay.title());
+    }
+
+    /** 저장된 해시와 다른 섹션 (해시가 없으면 전부) */
+    Set<String> staleSections(String storedJson, Map<String, String> current) throws JsonProcessingException {
+        if (storedJson == null) return new HashSet<>(current.keySet());
+        Map<String, String> stored = om.readValue(storedJson, new TypeReference<>(){});
+        Set<String> changed = new HashSet<>();
+        current.forEach((section, hash) -> {
+            if (!hash.equals(stored.get(section))) changed.add(section);
+        });
+        return changed;
+    }
+}
@@ -0,0 +1,128 @@
+// src/main/java/com/example/portfolioai/service/RemodelPipeline.java
+package com.example.portfolioai.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.portfolioai.dto.BuildRemodelReq;
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.example.portfolioai.portfolio.PortfolioEntity;
+import com.example.portfolioai.portfolio.PortfolioRepository;
+import com.example.portfolioai.service.JobPostingStore.StoredPosting;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 리모델 전체 흐름: 기본 포트폴리오 검증 → 공고 분석/점수화 → FE 스키마 변환 → REMODEL 저장.
+ * 동기 API(/build)와 비동기 작업(/jobs)이 같이 쓴다.
+ */
+@Service
+public class RemodelPipeline {
+
+    private final RemodelBuildService service;
+    private final RemodelAssembler assembler;
+    private final RemodelMaterializer materializer;
+    private final PortfolioRepository portfolioRepo;
+    private final ObjectMapper om;
+    private final RemodelStages stages;
+    private final PostingTermStats termStats;
+    private final TransactionTemplate tx;
+    private final MeterRegistry meters;
+    private final Timer saveTxTimer;
+
+    public RemodelPipeline(RemodelBuildService service, RemodelAssembler assembler, RemodelMaterializer materializer,
+                           PortfolioRepository portfolioRepo, ObjectMapper om, RemodelStages stages,
+                           PostingTermStats termStats, PlatformTransactionManager txManager, MeterRegistry meters) {
+        this.service = service;
+        this.assembler = assembler;
+        this.materializer = materializer;
+        this.portfolioRepo = portfolioRepo;
+        this.om = om;
+        this.stages = stages;
+        this.termStats = termStats;
+        this.tx = new TransactionTemplate(txManager);
+        this.meters = meters;
+        this.saveTxTimer = Timer.builder("remodel.save.tx")
+                .description("REMODEL 저장 트랜잭션 시간")
+                .register(meters);
+    }
+
+    /**
+     * 리모델을 만들고 저장한 뒤 { id, kind, data } 를 돌려준다.
+     * 크롤링/분석/변환은 트랜잭션 밖에서 하고, 마지막에 짧은 쓰기 트랜잭션에서 기본 포트폴리오 확인 + INSERT 만 한다.
+     * (네트워크 I/O 동안 DB 커넥션을 붙잡지 않도록)
+     */
+    public Map<String, Object> run(BuildRemodelReq req, String email, RemodelProgress progress) throws JsonProcessingException {
+        RankingKernel.Matcher matcher = termStats.matcher(req.getMatcher());
+
+        // 0~1. 기본 포트폴리오 검증/파싱과 공고 분석을 동시에 (한 번만 읽고 파싱)
+        RemodelStages.Both<RemodelMaterializer.View, StoredPosting> r = stages.both(
+                () -> {
+                    // 기본이 overlay 로 저장된 리모델이어도 문서로 풀어서 쓴다
+                    return materializer.view(requireOwnedBase(req.getBasePortfolioId(), email));
+                },
+                () -> service.analyzePosting(req.getSourceType(), req.getValue(), progress));
+
+        // 1~2. 섹션별 순서 계산 (기본 포트폴리오 특징은 View 에 한 번만 정규화해 둔 것)
+        //      저장은 overlay(순서 + 제목)만, 응답은 기본 포트폴리오에 적용한 FE 스키마
+        RemodelMaterializer.View base = r.first();
+        List<Keyword> keywords = r.second().analysis().keywords();
+        Map<String, int[]> orders = assembler.orders(base, keywords, RemodelAssembler.ORDERED_SECTIONS, matcher);
+        progress.on(RemodelProgress.Stage.SCORED);
+        PortfolioDocument feData = assembler.fromOverlay(base.doc(), orders, req.getTitle());
+        String dataJson = om.writeValueAsString(assembler.toOverlay(orders, req.getTitle(), matcher));
+        String keywordsJson = om.writeValueAsString(keywords);
+        String baseHashes = om.writeValueAsString(materializer.hashes(base));
+
+        // 3. REMODEL 종류로 새로운 포트폴리오 생성 (짧은 쓰기 트랜잭션)
+        Timer.Sample sample = Timer.start(meters);
+        PortfolioEntity saved;
+        try {
+            saved = tx.execute(status -> {
+                // 분석하는 동안 기본 포트폴리오가 지워졌을 수 있다
+                requireOwnedBase(req.getBasePortfolioId(), email);
+                PortfolioEntity remodelPortfolio = new PortfolioEntity();
+                remodelPortfolio.setOwnerEmail(email);
+                remodelPortfolio.setKind(PortfolioEntity.Kind.REMODEL);
+                remodelPortfolio.setDataJson(dataJson);
+                remodelPortfolio.setUpdatedAt(Instant.now());
+                remodelPortfolio.setSourcePostingId(r.second().id());
+                remodelPortfolio.setKeywordsJson(keywordsJson);
+                remodelPortfolio.setBasePortfolioId(req.getBasePortfolioId());
+                remodelPortfolio.setBaseSectionHashes(baseHashes);
+                return portfolioRepo.save(remodelPortfolio);
+            });
+        } finally {
+            sample.stop(saveTxTimer);
+        }
+        progress.on(RemodelProgress.Stage.SAVED);
+
+        // 4. 반환값 구성
+        return Map.of(
+            "id", saved.getId(),
+            "kind", saved.getKind().name(),
+            "data", feData
+        );
+    }
+
+    /** 기본 포트폴리오 조회 + 소유자 확인 (없으면 404, 남의 것이면 403) */
+    PortfolioEntity requireOwnedBase(Long basePortfolioId, String email) {
+        PortfolioEntity basePortfolio = portfolioRepo.findById(basePortfolioId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "기본 포트폴리오를 찾을 수 없습니다."));
+        if (!basePortfolio.getOwnerEmail().equals(email)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "기본 포트폴리오에 대한 권한이 없습니다.");
+        }
+        return basePortfolio;
+    }
+}
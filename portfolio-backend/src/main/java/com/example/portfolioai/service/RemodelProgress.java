@@ -0,0 +1,28 @@
+// src/main/java/com/example/portfolioai/service/RemodelProgress.java
+package com.example.portfolioai.service;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/** 리모델 파이프라인 단계 알림 (비동기 작업 진행 상황 스트리밍용) */
+@FunctionalInterface
+public interface RemodelProgress {
+
+    enum Stage { FETCHED, SECTIONS_EXTRACTED, KEYWORDS, SCORED, SAVED }
+
+    RemodelProgress NONE = stage -> {};
+
+    void on(Stage stage);
+
+    /** 같은 단계는 처음 한 번만 전달 (캐시 적중 여부와 상관없이 단계를 알리기 위함) */
+    static RemodelProgress once(RemodelProgress delegate) {
+        if (delegate == NONE) return NONE;
+        Set<Stage> seen = EnumSet.noneOf(Stage.class);
+        return stage -> {
+            synchronized (seen) {
+                if (!seen.add(stage)) return;
+            }
+            delegate.on(stage);
+        };
+    }
+}
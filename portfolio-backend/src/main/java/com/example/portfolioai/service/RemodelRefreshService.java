@@ -0,0 +1,209 @@
+// src/main/java/com/example/portfolioai/service/RemodelRefreshService.java
+package com.example.portfolioai.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.example.portfolioai.portfolio.PortfolioEntity;
+import com.example.portfolioai.portfolio.PortfolioRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 기본 포트폴리오가 수정되면 거기서 파생된 REMODEL 을 백그라운드에서 갱신한다.
+ * - 저장된 키워드(keywords_json)만 쓴다 (크롤링/분석 없음).
+ * - 섹션별 해시를 비교해서 바뀐 섹션만 다시 계산하고, 나머지는 리모델 데이터를 그대로 둔다.
+ *   overlay 리모델은 바뀐 섹션의 순서(index)만 다시 쓴다. 예전 전체 복사본은 전 섹션 순서를 계산해 overlay 로 바꾼다.
+ * - 같은 기본 포트폴리오의 연속 수정은 debounce 로 합쳐서 파생 리모델마다 한 번만 갱신한다.
+ * - 그사이 사용자가 리모델을 직접 고쳤으면(updated_at 변경) 덮어쓰지 않는다.
+ * - 다시 정렬할 때는 리모델을 만들 때 쓴 매처(overlay 의 matcher)를 그대로 쓰고, 특징 인덱스도 같은 트랜잭션에서 갱신한다.
+ */
+@Service
+public class RemodelRefreshService implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(RemodelRefreshService.class);
+
+    // updated_at 이 읽었을 때와 같고 아직 같은 기본에 연결돼 있을 때만 갱신
+    private static final String UPDATE_REFRESHED =
+            "update portfolio set data_json = ?, base_section_hashes = ?, updated_at = ?"
+            + " where id = ? and updated_at = ? and base_portfolio_id = ?";
+
+    private final RemodelAssembler assembler;
+    private final RemodelMaterializer materializer;
+    private final PortfolioRepository portfolioRepo;
+    private final PortfolioFeatureIndex featureIndex;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final ObjectMapper om;
+    private final MeterRegistry meters;
+    private final Duration debounce;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentHashMap<Long, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+
+    public RemodelRefreshService(RemodelAssembler assembler, RemodelMaterializer materializer,
+                                 PortfolioRepository portfolioRepo, PortfolioFeatureIndex featureIndex,
+                                 JdbcTemplate jdbc, PlatformTransactionManager txManager, ObjectMapper om,
+                                 MeterRegistry meters,
+                                 @Value("${remodel.refresh.debounce:3s}") Duration debounce) {
+        this.assembler = assembler;
+        this.materializer = materializer;
+        this.portfolioRepo = portfolioRepo;
+        this.featureIndex = featureIndex;
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.om = om;
+        this.meters = meters;
+        this.debounce = debounce;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "remodel-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 기본 포트폴리오가 저장됨. 트랜잭션 안이면 커밋 후에 예약한다.
+     * debounce 안에 다시 저장되면 이전 예약을 취소하고 다시 잡는다.
+     */
+    public void baseChanged(Long baseId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    schedule(baseId);
+                }
+            });
+        } else {
+            schedule(baseId);
+        }
+    }
+
+    private void schedule(Long baseId) {
+        pending.compute(baseId, (id, prev) -> {
+            if (prev != null) prev.cancel(false);
+            return scheduler.schedule(() -> {
+                pending.remove(id);
+                refresh(id);
+            }, debounce.toMillis(), TimeUnit.MILLISECONDS);
+        });
+    }
+
+    /** 파생 리모델 갱신. 갱신한 개수를 돌려준다. */
+    int refresh(Long baseId) {
+        Timer.Sample sample = Timer.start(meters);
+        int updated = 0;
+        try {
+            PortfolioEntity base = portfolioRepo.findById(baseId).orElse(null);
+            if (base == null) return 0;
+            List<PortfolioEntity> derived = portfolioRepo.findByBasePortfolioIdAndKind(baseId, PortfolioEntity.Kind.REMODEL);
+            if (derived.isEmpty()) return 0;
+
+            RemodelMaterializer.View baseView = materializer.view(base);
+            Map<String, String> baseHashes = materializer.hashes(baseView);
+            String baseHashesJson = om.writeValueAsString(baseHashes);
+
+            for (PortfolioEntity remodel : derived) {
+                Set<String> changed = materializer.staleSections(remodel.getBaseSectionHashes(), baseHashes);
+                if (changed.isEmpty()) {
+                    count("unchanged");
+                    continue;
+                }
+                if (remodel.getKeywordsJson() == null) {
+                    // 키워드 없이 만든 옛 리모델은 네트워크 없이 다시 계산할 수 없다
+                    count("skipped");
+                    continue;
+                }
+                List<Keyword> keywords = om.readValue(remodel.getKeywordsJson(), new TypeReference<>(){});
+                // 만들 때 쓴 매처로 다시 정렬 (예전 전체 복사본은 매처 선택 전이라 SUBSTRING)
+                RankingKernel.Matcher matcher = materializer.matcher(remodel);
+                RemodelAssembler.Overlay refreshed;
+                if (materializer.isOverlay(remodel)) {
+                    RemodelAssembler.Overlay stored = om.readValue(remodel.getDataJson(), RemodelAssembler.Overlay.class);
+                    // 순열이 깨진 섹션(항목 추가/삭제)도 다시 계산
+                    Map<String, int[]> orders = assembler.overlayOrders(stored, baseView.doc());
+                    for (String section : RemodelAssembler.ORDERED_SECTIONS) {
+                        if (!orders.containsKey(section)) changed.add(section);
+                    }
+                    orders.putAll(assembler.orders(baseView, keywords, changed, matcher));
+                    refreshed = assembler.toOverlay(orders, stored.title(), matcher);
+                } else {
+                    // 예전 전체 복사본: 제목만 가져오고 전 섹션 순서를 계산해 overlay 로 바꾼다
+                    PortfolioDocument stored = om.readValue(remodel.getDataJson(), PortfolioDocument.class);
+                    refreshed = assembler.toOverlay(assembler.orders(baseView, keywords, RemodelAssembler.ORDERED_SECTIONS, matcher),
+                            stored.title(), matcher);
+                }
+                String dataJson = om.writeValueAsString(refreshed);
+                // DB 정밀도(마이크로초)에 맞춰야 특징 인덱스의 portfolio_updated_at 과 그대로 비교된다
+                Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+                Instant readAt = remodel.getUpdatedAt();
+                Integer rows = tx.execute(status -> {
+                    int n = jdbc.update(UPDATE_REFRESHED,
+                            dataJson,
+                            baseHashesJson,
+                            OffsetDateTime.ofInstant(now, ZoneOffset.UTC),
+                            remodel.getId(),
+                            OffsetDateTime.ofInstant(readAt, ZoneOffset.UTC),
+                            baseId);
+                    if (n == 1) {
+                        // 같은 트랜잭션에서 특징 인덱스도 새 내용/updatedAt 으로
+                        remodel.setDataJson(dataJson);
+                        remodel.setBaseSectionHashes(baseHashesJson);
+                        remodel.setUpdatedAt(now);
+                        featureIndex.update(remodel);
+                    }
+                    return n;
+                });
+                if (rows != null && rows == 1) {
+                    updated++;
+                    count("updated");
+                    logger.info("리모델 갱신: id = {}, base = {}, 섹션 = {}", remodel.getId(), baseId, changed);
+                } else {
+                    count("conflict");
+                }
+            }
+            return updated;
+        } catch (JsonProcessingException | RuntimeException e) {
+            logger.warn("리모델 갱신 실패: base = {}, 에러 = {}", baseId, e.getMessage());
+            count("failed");
+            return updated;
+        } finally {
+            sample.stop(meters.timer("remodel.refresh"));
+        }
+    }
+
+    private void count(String result) {
+        meters.counter("remodel.refresh.remodels", "result", result).increment();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
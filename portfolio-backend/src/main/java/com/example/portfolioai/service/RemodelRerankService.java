@@ -0,0 +1,169 @@
+// src/main/java/com/example/portfolioai/service/RemodelRerankService.java
+package com.example.portfolioai.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.example.portfolioai.dto.RerankReq;
+import com.example.portfolioai.portfolio.PortfolioEntity;
+import com.example.portfolioai.portfolio.PortfolioRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * REMODEL 포트폴리오 재정렬 (가중치 슬라이더용).
+ * 저장된 keywords_json 만으로 스킬/프로젝트/나머지 섹션을 다시 정렬한다 (크롤링/분석 없음).
+ * overlay 리모델은 기본 포트폴리오를, 예전 전체 복사본은 자기 자신을 다시 정렬한다.
+ * 파싱 결과는 RemodelMaterializer 가 캐시하므로, 같은 포트폴리오를 연속으로 조정할 때는 점수 계산만 한다.
+ */
+@Service
+public class RemodelRerankService {
+    private static final Logger logger = LoggerFactory.getLogger(RemodelRerankService.class);
+
+    private final RemodelAssembler assembler;
+    private final RemodelMaterializer materializer;
+    private final PostingTermStats termStats;
+    private final PortfolioRepository portfolioRepo;
+    private final ObjectMapper om;
+    private final TransactionTemplate tx;
+    private final Timer rerankTimer;
+
+    public RemodelRerankService(RemodelAssembler assembler, RemodelMaterializer materializer,
+                                PostingTermStats termStats, PortfolioRepository portfolioRepo, ObjectMapper om,
+                                PlatformTransactionManager txManager, MeterRegistry meters) {
+        this.assembler = assembler;
+        this.materializer = materializer;
+        this.termStats = termStats;
+        this.portfolioRepo = portfolioRepo;
+        this.om = om;
+        this.tx = new TransactionTemplate(txManager);
+        this.rerankTimer = Timer.builder("remodel.rerank")
+                .description("저장된 키워드로 REMODEL 재정렬 (DB 조회 제외)")
+                .register(meters);
+    }
+
+    /** { id, kind, data, keywords, saved } */
+    public Map<String, Object> rerank(Long id, RerankReq req, String email) {
+        PortfolioEntity entity = portfolioRepo.findByIdAndOwnerEmail(id, email)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "포트폴리오를 찾을 수 없습니다."));
+        if (entity.getKind() != PortfolioEntity.Kind.REMODEL) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "REMODEL 포트폴리오만 재정렬할 수 있습니다.");
+        }
+        if (entity.getKeywordsJson() == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "저장된 키워드가 없는 리모델입니다. 다시 리모델해 주세요.");
+        }
+
+        // 기본 포트폴리오 조회/파싱 (캐시)
+        RemodelMaterializer.View source = materializer.source(entity);
+        String title = materializer.read(entity).title();
+        RankingKernel.Matcher matcher = req.getMatcher() == null ? materializer.matcher(entity) : termStats.matcher(req.getMatcher());
+
+        Timer.Sample sample = Timer.start();
+        List<Keyword> keywords = adjust(storedKeywords(entity), req);
+        Map<String, int[]> orders = assembler.orders(source, keywords, RemodelAssembler.ORDERED_SECTIONS, matcher);
+        PortfolioDocument feData = assembler.fromOverlay(source.doc(), orders, title);
+        long nanos = sample.stop(rerankTimer);
+        logger.debug("리모델 재정렬: id = {}, 키워드 {}개, {}us", id, keywords.size(), nanos / 1000);
+
+        if (req.isSave()) {
+            if (materializer.isOverlay(entity)) {
+                save(id, email, assembler.toOverlay(orders, title, matcher),
+                        materializer.hashes(source), keywords);
+            } else {
+                save(id, email, feData, null, keywords);
+            }
+        }
+
+        Map<String, Object> res = new LinkedHashMap<>();
+        res.put("id", entity.getId());
+        res.put("kind", entity.getKind().name());
+        res.put("data", feData);
+        res.put("keywords", keywords);
+        res.put("saved", req.isSave());
+        return res;
+    }
+
+    private List<Keyword> storedKeywords(PortfolioEntity entity) {
+        try {
+            return om.readValue(entity.getKeywordsJson(), new TypeReference<List<Keyword>>(){});
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "리모델 키워드 파싱 실패");
+        }
+    }
+
+    /** 저장된 키워드에 가중치 변경/제외 적용 (원본은 건드리지 않는다) */
+    private static List<Keyword> adjust(List<Keyword> stored, RerankReq req) {
+        Map<String, Double> weights = new HashMap<>();
+        if (req.getWeights() != null) {
+            req.getWeights().forEach((term, w) -> {
+                if (term != null && w != null) weights.put(term.toLowerCase(Locale.ROOT), w);
+            });
+        }
+        Set<String> drop = new HashSet<>();
+        if (req.getDrop() != null) {
+            for (String term : req.getDrop()) {
+                if (term != null) drop.add(term.toLowerCase(Locale.ROOT));
+            }
+        }
+        List<Keyword> out = new ArrayList<>(stored.size());
+        for (Keyword k : stored) {
+            String key = k.getTerm().toLowerCase(Locale.ROOT);
+            if (drop.contains(key)) continue;
+            Double w = weights.get(key);
+            if (w == null) {
+                out.add(k);
+            } else if (w > 0) {
+                out.add(new Keyword(k.getTerm(), Math.min(1.0, w), k.getKind()));
+            }
+        }
+        return out;
+    }
+
+    /** data 는 Overlay 또는 PortfolioDocument. baseHashes 가 null 이면 그대로 둔다. */
+    private void save(Long id, String email, Object data, Map<String, String> baseHashes, List<Keyword> keywords) {
+        String dataJson;
+        String keywordsJson;
+        String baseHashesJson;
+        try {
+            dataJson = om.writeValueAsString(data);
+            keywordsJson = om.writeValueAsString(keywords);
+            baseHashesJson = baseHashes == null ? null : om.writeValueAsString(baseHashes);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "리모델 저장 실패");
+        }
+        tx.executeWithoutResult(status -> {
+            PortfolioEntity entity = portfolioRepo.findByIdAndOwnerEmail(id, email)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "포트폴리오를 찾을 수 없습니다."));
+            if (baseHashesJson != null && entity.getBasePortfolioId() == null) {
+                // 그사이 직접 수정돼 기본 포트폴리오와 분리됨 → overlay 로 덮어쓰면 안 된다
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "리모델이 수정되었습니다. 다시 시도해 주세요.");
+            }
+            entity.setDataJson(dataJson);
+            entity.setKeywordsJson(keywordsJson);
+            if (baseHashesJson != null) entity.setBaseSectionHashes(baseHashesJson);
+            entity.setUpdatedAt(Instant.now());
+            portfolioRepo.save(entity);
+        });
+    }
+}
@@ -0,0 +1,275 @@
+// src/main/java/com/example/portfolioai/service/RemodelStages.java
+package com.example.portfolioai.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 리모델 단계 병렬 실행.
+ * 서로 의존하지 않는 두 단계(기본 포트폴리오 로드/파싱, 공고 크롤링/분석)를 동시에 돌리고,
+ * 한쪽이 실패하거나 요청 데드라인을 넘기면 나머지를 취소한다.
+ * - 취소는 단계에 표시만 하고, 스레드 인터럽트는 interruptibly 로 감싼 구간(크롤링)에 있을 때만 보낸다.
+ *   JDBC/트랜잭션 도중에는 인터럽트하지 않는다 (커넥션 대여/소켓 읽기가 깨지지 않도록).
+ * - 풀과 대기열이 가득 차면 호출 스레드에서 돌리지 않고 503 으로 거절한다 (데드라인 없이 요청 스레드를 붙잡지 않도록).
+ * 여러 포트폴리오 점수 계산처럼 독립 항목 목록은 mapAll 로 나눠 돌린다.
+ */
+@Component
+public class RemodelStages implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(RemodelStages.class);
+
+    public record Both<A, B>(A first, B second) {}
+
+    /** 크롤링처럼 인터럽트로 끊어도 되는 작업 */
+    @FunctionalInterface
+    public interface InterruptibleCall<T> {
+        T call() throws IOException;
+    }
+
+    /** 실행 중인 단계 하나의 취소 상태. 인터럽트는 interruptible 구간에서만 */
+    private static final class Stage {
+        private Thread thread;
+        private boolean interruptible;
+        private boolean cancelled;
+
+        synchronized void start() {
+            thread = Thread.currentThread();
+        }
+
+        synchronized void finish() {
+            thread = null;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (interruptible && thread != null) thread.interrupt();
+        }
+
+        synchronized boolean cancelled() {
+            return cancelled;
+        }
+
+        synchronized void enter() throws InterruptedIOException {
+            if (cancelled) throw new InterruptedIOException("리모델 단계 취소");
+            interruptible = true;
+        }
+
+        synchronized void exit() {
+            interruptible = false;
+            // 구간 안에서 받은 취소 인터럽트가 뒤이은 JDBC 로 새지 않도록 지운다 (취소 여부는 cancelled 로 남음)
+            if (cancelled) Thread.interrupted();
+        }
+    }
+
+    // 현재 스레드가 실행 중인 단계 (단계 밖이면 null)
+    private static final ThreadLocal<Stage> CURRENT = new ThreadLocal<>();
+
+    private final ThreadPoolExecutor executor;
+    private final Duration deadline;
+    private final MeterRegistry meters;
+
+    public RemodelStages(MeterRegistry meters,
+                         @Value("${remodel.stages.threads:8}") int threads,
+                         @Value("${remodel.stages.queue-capacity:16}") int queueCapacity,
+                         @Value("${remodel.deadline:45s}") Duration deadline) {
+        this.meters = meters;
+        this.deadline = deadline;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "remodel-stage-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("remodel.stages.active", executor, ThreadPoolExecutor::getActiveCount).register(meters);
+    }
+
+    /** 두 단계를 동시에 실행하고 둘 다 끝나면 결과를 돌려준다 (기본 데드라인) */
+    public <A, B> Both<A, B> both(Callable<A> first, Callable<B> second) {
+        return both(first, second, deadline);
+    }
+
+    /**
+     * 두 단계를 동시에 실행. 먼저 실패한 쪽의 예외를 그대로 던지고 다른 쪽은 취소한다.
+     * 데드라인을 넘기면 둘 다 취소하고 504.
+     */
+    @SuppressWarnings("unchecked")
+    public <A, B> Both<A, B> both(Callable<A> first, Callable<B> second, Duration deadline) {
+        long deadlineAt = System.nanoTime() + deadline.toNanos();
+        ExecutorCompletionService<Object> done = new ExecutorCompletionService<>(executor);
+        Timer.Sample sample = Timer.start(meters);
+        String outcome = "failed";
+        Stage sa = new Stage();
+        Stage sb = new Stage();
+        Future<Object> fa = null;
+        Future<Object> fb = null;
+        try {
+            fa = done.submit(staged(first::call, sa));
+            fb = done.submit(staged(second::call, sb));
+            for (int pending = 2; pending > 0; pending--) {
+                Future<Object> next = done.poll(deadlineAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    outcome = "deadline";
+                    logger.warn("리모델 단계 데드라인 초과({}ms)", deadline.toMillis());
+                    throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "리모델 처리 시간이 초과되었습니다.");
+                }
+                next.get(); // 실패면 여기서 ExecutionException
+            }
+            outcome = "success";
+            return new Both<>((A) fa.get(), (B) fb.get());
+        } catch (RejectedExecutionException e) {
+            outcome = "rejected";
+            throw busy();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "cancelled";
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "리모델 처리가 취소되었습니다.");
+        } finally {
+            if (!"success".equals(outcome)) {
+                cancel(fa, sa);
+                cancel(fb, sb);
+            }
+            sample.stop(meters.timer("remodel.stages", "outcome", outcome));
+        }
+    }
+
+    /**
+     * 목록을 풀 크기만큼 조각내 동시에 fn 을 적용한다 (결과 순서 = 입력 순서).
+     * 한 조각이라도 실패하면 나머지를 취소하고 그 예외를 던진다. 데드라인은 both 와 같다.
+     */
+    public <T, R> List<R> mapAll(List<T> items, Function<T, R> fn) {
+        int n = items.size();
+        int chunks = Math.min(n, executor.getMaximumPoolSize());
+        if (chunks <= 1) {
+            List<R> out = new ArrayList<>(n);
+            for (T item : items) out.add(fn.apply(item));
+            return out;
+        }
+        long deadlineAt = System.nanoTime() + deadline.toNanos();
+        Timer.Sample sample = Timer.start(meters);
+        String outcome = "failed";
+        List<Future<List<R>>> futures = new ArrayList<>(chunks);
+        List<Stage> running = new ArrayList<>(chunks);
+        try {
+            for (int c = 0; c < chunks; c++) {
+                List<T> slice = items.subList(c * n / chunks, (c + 1) * n / chunks);
+                Stage stage = new Stage();
+                running.add(stage);
+                futures.add(executor.submit(staged(() -> {
+                    List<R> out = new ArrayList<>(slice.size());
+                    for (T item : slice) {
+                        if (stage.cancelled()) throw new CancellationException();
+                        out.add(fn.apply(item));
+                    }
+                    return out;
+                }, stage)));
+            }
+            List<R> out = new ArrayList<>(n);
+            for (Future<List<R>> f : futures) {
+                out.addAll(f.get(Math.max(0, deadlineAt - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+            outcome = "success";
+            return out;
+        } catch (RejectedExecutionException e) {
+            outcome = "rejected";
+            throw busy();
+        } catch (TimeoutException e) {
+            outcome = "deadline";
+            throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "리모델 처리 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "cancelled";
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "리모델 처리가 취소되었습니다.");
+        } finally {
+            if (!"success".equals(outcome)) {
+                for (int i = 0; i < futures.size(); i++) cancel(futures.get(i), running.get(i));
+            }
+            sample.stop(meters.timer("remodel.stages", "outcome", outcome));
+        }
+    }
+
+    /**
+     * 단계 안에서 인터럽트로 끊어도 되는 구간 (크롤링). 단계가 취소되면 이 구간 안에 있을 때만 인터럽트가 온다.
+     * 이미 취소된 단계면 바로 InterruptedIOException. 단계 밖(일괄 리모델 등)에서는 그냥 실행한다.
+     */
+    public static <T> T interruptibly(InterruptibleCall<T> call) throws IOException {
+        Stage stage = CURRENT.get();
+        if (stage == null) return call.call();
+        stage.enter();
+        try {
+            return call.call();
+        } finally {
+            stage.exit();
+        }
+    }
+
+    private static <T> Callable<T> staged(Callable<T> task, Stage stage) {
+        return () -> {
+            stage.start();
+            CURRENT.set(stage);
+            try {
+                return task.call();
+            } finally {
+                CURRENT.remove();
+                stage.finish();
+            }
+        };
+    }
+
+    /** 아직 시작 전이면 큐에서 빼고, 실행 중이면 취소 표시 (인터럽트는 Stage 가 판단) */
+    private static void cancel(Future<?> future, Stage stage) {
+        if (future == null) return;
+        future.cancel(false);
+        stage.cancel();
+    }
+
+    private static ResponseStatusException busy() {
+        logger.warn("리모델 단계 풀/대기열 포화로 거절");
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "리모델 작업이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException re) return re;
+        if (cause instanceof Error err) throw err;
+        return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, cause.getMessage(), cause);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,122 @@
+// src/main/java/com/example/portfolioai/service/SkillTaxonomy.java
+package com.example.portfolioai.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import com.example.portfolioai.dto.Keyword;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 기술/역할 용어 사전 (taxonomy/skills.json).
+ * 기동 시 한 번 읽어서 용어+별칭 전체를 하나의 오토마톤으로 컴파일한다.
+ * 용어가 늘어나도 공고 텍스트는 한 번만 스캔한다.
+ */
+@Component
+public class SkillTaxonomy {
+    private static final Logger logger = LoggerFactory.getLogger(SkillTaxonomy.class);
+
+    public record Term(String term, Keyword.Kind kind, double requiredWeight, double preferredWeight) {}
+
+    private final String version;
+    private final List<Term> terms;
+    private final int[] patternToTerm;           // 오토마톤 패턴 id → 용어 index
+    private final KeywordAutomaton termMatcher;
+    private final KeywordAutomaton indicatorMatcher;
+    private final Set<String> indicatorFragments; // 지표 단어의 모든 부분 문자열
+
+    public SkillTaxonomy(ObjectMapper om,
+                         @Value("${remodel.taxonomy.location:classpath:taxonomy/skills.json}") Resource location) throws IOException {
+        JsonNode root;
+        try (InputStream in = location.getInputStream()) {
+            root = om.readTree(in);
+        }
+        this.version = root.path("version").asText("0");
+        double dftReq = root.path("defaults").path("required").asDouble(0.7);
+        double dftPref = root.path("defaults").path("preferred").asDouble(0.9);
+
+        // 같은 용어(대소문자 무시)가 중복되면 먼저 나온 항목을 사용
+        Map<String, Integer> seen = new LinkedHashMap<>();
+        List<Term> termList = new ArrayList<>();
+        List<String> patterns = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        for (JsonNode n : root.path("terms")) {
+            String term = n.path("term").asText("").trim();
+            if (term.isEmpty()) continue;
+            Integer idx = seen.get(term.toLowerCase(Locale.ROOT));
+            if (idx == null) {
+                idx = termList.size();
+                seen.put(term.toLowerCase(Locale.ROOT), idx);
+                termList.add(new Term(
+                        term,
+                        Keyword.Kind.valueOf(n.path("kind").asText("TECH").toUpperCase(Locale.ROOT)),
+                        n.path("required").asDouble(dftReq),
+                        n.path("preferred").asDouble(dftPref)));
+                patterns.add(term);
+                owners.add(idx);
+            }
+            for (JsonNode a : n.path("aliases")) {
+                String alias = a.asText("").trim();
+                if (alias.isEmpty()) continue;
+                patterns.add(alias);
+                owners.add(idx);
+            }
+        }
+        this.terms = List.copyOf(termList);
+        this.patternToTerm = owners.stream().mapToInt(Integer::intValue).toArray();
+        this.termMatcher = KeywordAutomaton.of(patterns);
+
+        List<String> indicators = new ArrayList<>();
+        Set<String> fragments = new HashSet<>();
+        for (JsonNode n : root.path("indicators")) {
+            String w = n.asText("").trim().toLowerCase(Locale.ROOT);
+            if (w.isEmpty()) continue;
+            indicators.add(w);
+            for (int i = 0; i < w.length(); i++) {
+                for (int j = i + 1; j <= w.length(); j++) fragments.add(w.substring(i, j));
+            }
+        }
+        this.indicatorMatcher = KeywordAutomaton.of(indicators);
+        this.indicatorFragments = Set.copyOf(fragments);
+
+        logger.info("스킬 택소노미 로드: version = {}, 용어 {}개, 패턴 {}개, 지표 단어 {}개",
+                version, terms.size(), patterns.size(), indicators.size());
+    }
+
+    public String version() { return version; }
+
+    public List<Term> terms() { return terms; }
+
+    public Term term(int index) { return terms.get(index); }
+
+    /** 텍스트에 (단어 경계 기준으로) 등장한 용어 index 집합. 별칭은 원래 용어로 합쳐진다. */
+    public BitSet match(CharSequence text) {
+        BitSet found = new BitSet(terms.size());
+        if (text == null || text.length() == 0) return found;
+        termMatcher.scan(text, true, (id, start, end) -> found.set(patternToTerm[id]));
+        return found;
+    }
+
+    /**
+     * 기술 관련 단어인지: 지표 단어를 포함하거나(word ⊇ indicator) 지표 단어의 일부인 경우(indicator ⊇ word).
+     * word 는 소문자로 들어온다고 가정한다.
+     */
+    public boolean isTechIndicator(String word) {
+        return indicatorFragments.contains(word) || indicatorMatcher.containsAny(word);
+    }
+}
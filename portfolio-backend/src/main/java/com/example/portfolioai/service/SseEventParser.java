@@ -0,0 +1,98 @@
+// src/main/java/com/example/portfolioai/service/SseEventParser.java
+package com.example.portfolioai.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * text/event-stream 증분 파서. 받은 버퍼를 바이트 단위로 훑어서 이벤트가 끝날 때(빈 줄)마다 data 를 내보낸다.
+ * - 스트림 전체나 줄을 String 으로 모으지 않는다. 줄은 바이트로만 들고 있다가 data 필드만 복사한다
+ *   (UTF-8 글자가 버퍼 경계에서 잘려도 바이트로 이어 붙이므로 깨지지 않는다).
+ * - 줄 끝은 \n, \r\n, \r 모두 허용. data 가 여러 줄이면 \n 으로 잇고, 주석(:)과 다른 필드(event, id, retry)는 버린다.
+ * - 마지막 빈 줄 없이 끝난 이벤트는 SSE 규칙대로 버린다.
+ * 한 스트림 전용 (상태를 가진다).
+ */
+final class SseEventParser {
+
+    private static final byte[] DATA = { 'd', 'a', 't', 'a' };
+
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private byte[] data = new byte[1024];
+    private int dataLength;
+    private boolean hasData;
+    private boolean afterCr;
+
+    /** 버퍼들 → 이벤트 data (UTF-8 바이트). 버퍼는 읽은 뒤 바로 반납한다 */
+    static Flux<byte[]> events(Flux<DataBuffer> buffers) {
+        return Flux.defer(() -> {
+            SseEventParser parser = new SseEventParser();
+            return buffers.concatMapIterable(parser::feed);
+        });
+    }
+
+    /** 버퍼 하나를 읽고 그 안에서 끝난 이벤트들의 data */
+    List<byte[]> feed(DataBuffer buffer) {
+        List<byte[]> out = new ArrayList<>(2);
+        try {
+            int start = buffer.readPosition();
+            int end = start + buffer.readableByteCount();
+            for (int i = start; i < end; i++) {
+                byte b = buffer.getByte(i);
+                if (b == '\n' && afterCr) { // \r\n 의 \n
+                    afterCr = false;
+                    continue;
+                }
+                afterCr = b == '\r';
+                if (b == '\n' || b == '\r') {
+                    endLine(out);
+                } else {
+                    if (lineLength == line.length) line = Arrays.copyOf(line, line.length * 2);
+                    line[lineLength++] = b;
+                }
+            }
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+        return out;
+    }
+
+    private void endLine(List<byte[]> out) {
+        if (lineLength == 0) { // 빈 줄 → 이벤트 끝
+            if (hasData) out.add(Arrays.copyOf(data, dataLength));
+            dataLength = 0;
+            hasData = false;
+            return;
+        }
+        if (isDataField()) {
+            int from = DATA.length;
+            if (from < lineLength && line[from] == ':') from++;
+            if (from < lineLength && line[from] == ' ') from++;
+            if (hasData) append(new byte[] { '\n' }, 0, 1);
+            append(line, from, lineLength - from);
+            hasData = true;
+        }
+        lineLength = 0;
+    }
+
+    /** "data" 또는 "data:..." 줄인지 */
+    private boolean isDataField() {
+        if (lineLength < DATA.length) return false;
+        for (int i = 0; i < DATA.length; i++) {
+            if (line[i] != DATA[i]) return false;
+        }
+        return lineLength == DATA.length || line[DATA.length] == ':';
+    }
+
+    private void append(byte[] src, int from, int length) {
+        if (dataLength + length > data.length) data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + length));
+        System.arraycopy(src, from, data, dataLength, length);
+        dataLength += length;
+    }
+}
@@ -0,0 +1,66 @@
+// src/main/java/com/example/portfolioai/service/StructuredPostingExtractor.java
+package com.example.portfolioai.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.example.portfolioai.dto.JobReqPref;
+
+/**
+ * 사이트별 구조화 데이터 추출기.
+ * 공고 HTML 에 박혀 있는 JSON(JSON-LD JobPosting, Next.js __NEXT_DATA__ 등)에서 자격요건/우대사항을 바로 꺼낸다.
+ * DOM 을 만들지 않고 원문 문자열에서 script 블록만 찾아 스트리밍 파서로 읽는다.
+ * 못 찾으면 Optional.empty() → 일반 경로(구조/텍스트 기반 추출)로 폴백.
+ */
+public interface StructuredPostingExtractor {
+
+    /** 로그/지표용 이름 */
+    String name();
+
+    /** 이 호스트(정규화된 소문자 호스트, 붙여넣은 텍스트면 null)의 공고를 다루는지 */
+    boolean supports(String host);
+
+    /** HTML 원문 → 자격요건/우대사항. 둘 다 비어 있으면 empty */
+    Optional<JobReqPref> extract(String host, String html);
+
+    /** 원문에서 여는 태그에 needle 이 들어 있는 script 블록 본문들 (대소문자 무시) */
+    static List<String> scriptBodies(String html, String needle) {
+        List<String> out = new ArrayList<>(2);
+        int from = 0;
+        while (true) {
+            int open = indexOfIgnoreCase(html, "<script", from);
+            if (open < 0) break;
+            int tagEnd = html.indexOf('>', open);
+            if (tagEnd < 0) break;
+            int close = indexOfIgnoreCase(html, "</script", tagEnd + 1);
+            if (close < 0) break;
+            if (indexOfIgnoreCase(html.substring(open, tagEnd), needle, 0) >= 0) {
+                out.add(html.substring(tagEnd + 1, close));
+            }
+            from = close + 8;
+        }
+        return out;
+    }
+
+    /** 여러 줄 텍스트(글머리표 포함) → 항목 목록 (최대 MAX_ITEMS, 5자 이하 제외) */
+    static void addItems(String text, List<String> out) {
+        if (text == null) return;
+        int start = 0;
+        for (int i = 0; i <= text.length() && out.size() < JobSectionScanner.MAX_ITEMS; i++) {
+            if (i == text.length() || text.charAt(i) == '\n' || text.charAt(i) == '\r') {
+                String item = JobSectionScanner.toItem(text, start, i);
+                if (item != null) out.add(item);
+                start = i + 1;
+            }
+        }
+    }
+
+    private static int indexOfIgnoreCase(String s, String needle, int from) {
+        int n = needle.length();
+        for (int i = Math.max(0, from); i + n <= s.length(); i++) {
+            if (s.regionMatches(true, i, needle, 0, n)) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,82 @@
+// src/main/java/com/example/portfolioai/service/StructuredPostingExtractors.java
+package com.example.portfolioai.service;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.example.portfolioai.dto.JobReqPref;
+import com.example.portfolioai.util.PostingUrls;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 구조화 데이터 추출기 레지스트리.
+ * 등록된 StructuredPostingExtractor 를 @Order 순(사이트 전용 → 범용 JSON-LD)으로 시도하고 처음 성공한 결과를 쓴다.
+ * 새 사이트는 StructuredPostingExtractor 빈을 하나 추가하면 된다.
+ */
+@Component
+public class StructuredPostingExtractors {
+    private static final Logger logger = LoggerFactory.getLogger(StructuredPostingExtractors.class);
+
+    // 추출 규칙이 바뀌면 올린다 (저장된 공고 분석의 설정 지문에 포함)
+    public static final String VERSION = "1";
+
+    private final List<StructuredPostingExtractor> extractors;
+    private final MeterRegistry meters;
+
+    public StructuredPostingExtractors(List<StructuredPostingExtractor> extractors, MeterRegistry meters) {
+        this.extractors = extractors;
+        this.meters = meters;
+    }
+
+    /**
+     * 공고 HTML 에 박힌 구조화 데이터에서 섹션 추출.
+     * url 이 null 이면(붙여넣은 HTML) 호스트 무관 추출기만 쓴다. 못 찾으면 empty.
+     */
+    public Optional<JobReqPref> extract(String url, String html) {
+        if (html == null || html.isEmpty()) return Optional.empty();
+        String host = hostOf(url);
+        for (StructuredPostingExtractor x : extractors) {
+            if (!x.supports(host)) continue;
+            Optional<JobReqPref> rp = x.extract(host, html);
+            meters.counter("posting.structured.extract", "extractor", x.name(), "result", rp.isPresent() ? "hit" : "miss").increment();
+            if (rp.isPresent()) {
+                logger.info("구조화 데이터 추출({}): 자격요건 {}개, 우대사항 {}개", x.name(),
+                        rp.get().getRequired().size(), rp.get().getPreferred().size());
+                return rp;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** 원문 바이트에 구조화 데이터 표식이 있는지 (없으면 문자열 디코딩 없이 일반 경로로) */
+    public static boolean mayContain(byte[] body) {
+        return containsAscii(body, "application/ld+json") || containsAscii(body, "__NEXT_DATA__");
+    }
+
+    private static boolean containsAscii(byte[] body, String needle) {
+        int n = needle.length();
+        outer:
+        for (int i = 0; i + n <= body.length; i++) {
+            for (int k = 0; k < n; k++) {
+                if (body[i + k] != needle.charAt(k)) continue outer;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static String hostOf(String url) {
+        if (url == null) return null;
+        try {
+            return URI.create(PostingUrls.canonicalize(url)).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
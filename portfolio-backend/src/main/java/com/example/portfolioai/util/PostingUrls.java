@@ -0,0 +1,119 @@
+// src/main/java/com/example/portfolioai/util/PostingUrls.java
+package com.example.portfolioai.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 공고 URL 정규화.
+ * canonicalize: 같은 공고인가(JobPosting 중복 판단). 스킴/호스트 소문자, 기본 포트/프래그먼트/끝 슬래시 제거,
+ * 추적용 파라미터 제거, 쿼리 파라미터 정렬, 모바일/www 호스트 접두어 통일(m.saramin.co.kr → saramin.co.kr), http → https.
+ * cacheKey: 같은 응답인가(PostingCache 본문/ETag 키). 모바일/데스크톱 페이지는 본문이 다르므로
+ * 스킴/호스트/포트/경로는 그대로 두고 utm_* 와 클릭 ID 만 뺀다.
+ * 실제 요청은 원래 URL 로 보내고, 이 값들은 키로만 쓴다.
+ */
+public final class PostingUrls {
+
+    // 같은 사이트의 데스크톱/모바일 호스트 접두어
+    private static final String[] HOST_PREFIXES = { "www.", "m.", "mobile." };
+
+    // 광고/메일 클릭 ID. ref, source 같은 이름은 사이트에 따라 공고를 가리키는 값이라 빼지 않는다
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "gclid", "fbclid", "msclkid", "igshid", "mc_cid", "mc_eid", "_ga");
+
+    private PostingUrls() {}
+
+    /** 정규화된 URL. 파싱할 수 없으면 trim 한 원문 그대로. */
+    public static String canonicalize(String url) {
+        if (url == null) return "";
+        String trimmed = url.trim();
+        URI uri;
+        try {
+            uri = new URI(trimmed);
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+        if (uri.getScheme() == null || uri.getRawAuthority() == null) return trimmed;
+
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(trimmed.length());
+        sb.append("http".equals(scheme) ? "https" : scheme).append("://");
+        if (uri.getHost() != null) {
+            sb.append(canonicalHost(uri.getHost()));
+            int port = uri.getPort();
+            boolean defaultPort = port == -1 || ("http".equals(scheme) && port == 80) || ("https".equals(scheme) && port == 443);
+            if (!defaultPort) sb.append(':').append(port);
+        } else {
+            sb.append(uri.getRawAuthority().toLowerCase(Locale.ROOT));
+        }
+
+        String path = uri.getRawPath();
+        if (path == null || path.isEmpty()) path = "/";
+        if (path.length() > 1 && path.endsWith("/")) path = path.substring(0, path.length() - 1);
+        sb.append(path);
+
+        String query = canonicalQuery(uri.getRawQuery());
+        if (!query.isEmpty()) sb.append('?').append(query);
+        return sb.toString();
+    }
+
+    /** PostingCache 키. 파싱할 수 없으면 trim 한 원문 그대로. */
+    public static String cacheKey(String url) {
+        if (url == null) return "";
+        String trimmed = url.trim();
+        URI uri;
+        try {
+            uri = new URI(trimmed);
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+        if (uri.getScheme() == null || uri.getRawAuthority() == null) return trimmed;
+
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(trimmed.length());
+        sb.append(scheme).append("://");
+        if (uri.getHost() != null) {
+            sb.append(uri.getHost().toLowerCase(Locale.ROOT));
+            int port = uri.getPort();
+            boolean defaultPort = port == -1 || ("http".equals(scheme) && port == 80) || ("https".equals(scheme) && port == 443);
+            if (!defaultPort) sb.append(':').append(port);
+        } else {
+            sb.append(uri.getRawAuthority().toLowerCase(Locale.ROOT));
+        }
+
+        String path = uri.getRawPath();
+        sb.append(path == null || path.isEmpty() ? "/" : path);
+
+        String query = canonicalQuery(uri.getRawQuery());
+        if (!query.isEmpty()) sb.append('?').append(query);
+        return sb.toString();
+    }
+
+    private static String canonicalHost(String host) {
+        String h = host.toLowerCase(Locale.ROOT);
+        for (String prefix : HOST_PREFIXES) {
+            // 접두어를 떼도 점이 남는 경우만 (m.com 같은 호스트는 그대로)
+            if (h.startsWith(prefix) && h.indexOf('.', prefix.length()) > 0) return h.substring(prefix.length());
+        }
+        return h;
+    }
+
+    private static String canonicalQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) return "";
+        List<String> kept = new ArrayList<>();
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) continue;
+            int eq = pair.indexOf('=');
+            String name = (eq < 0 ? pair : pair.substring(0, eq)).toLowerCase(Locale.ROOT);
+            if (name.startsWith("utm_") || TRACKING_PARAMS.contains(name)) continue;
+            kept.add(pair);
+        }
+        // 값까지 포함해 정렬 → 같은 이름이 여러 번 나와도 순서와 무관하게 같은 키
+        kept.sort(null);
+        return String.join("&", kept);
+    }
+}
@@ -0,0 +1,241 @@
+// src/test/java/com/example/portfolioai/controller/PortfolioAiControllerTest.java
+package com.example.portfolioai.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.portfolioai.dto.GenerateSummaryReq;
+import com.example.portfolioai.service.PortfolioAiService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import reactor.core.Disposable;
+
+/**
+ * PortfolioAiController/PortfolioAiService 를 로컬 스텁 모델 서버(소켓)에 붙여서 확인한다.
+ * X-Request-Timeout 을 넘기면 504, 0 이하면 400 (상위 호출 없음), 구독을 끊으면
+ * ai.summary.calls{outcome=cancelled} 가 남고 상위 연결이 닫힌다.
+ * 스텁은 연결이 닫히는 것을 보려고 HttpServer 대신 ServerSocket 으로 요청을 받고, hold 면 응답하지 않고 기다린다.
+ */
+class PortfolioAiControllerTest {
+
+    private static final String REQ = """
+            {"title":"주문 서버 개편","role":"백엔드","bullets":["결제 장애 대응"],"techs":["Spring Boot","Kafka"]}
+            """;
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final MeterRegistry meters = new SimpleMeterRegistry();
+
+    private StubModel stub;
+    private PortfolioAiService service;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new StubModel();
+        WebClient client = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + stub.port() + "/v1")
+                .defaultHeader("Content-Type", "application/json")
+                .build();
+        service = new PortfolioAiService(client, meters);
+        ReflectionTestUtils.setField(service, "model", "stub-model");
+        ReflectionTestUtils.setField(service, "maxOutputTokens", 500);
+        ReflectionTestUtils.setField(service, "summaryTimeout", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(service, "streamTimeout", Duration.ofSeconds(10));
+        mvc = MockMvcBuilders.standaloneSetup(new PortfolioAiController(service)).build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        stub.close();
+    }
+
+    @Test
+    void summaryIsReturned() throws Exception {
+        stub.response = om.writeValueAsString(Map.of("output", List.of(Map.of(
+                "content", List.of(Map.of("type", "output_text", "text", "✅ 요약"))))));
+
+        MvcResult started = mvc.perform(post("/api/v1/generate-summary")
+                        .contentType(MediaType.APPLICATION_JSON).content(REQ))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summary").value("✅ 요약"));
+        assertTrue(stub.bodies.get(0).contains("\"model\":\"stub-model\""), stub.bodies.get(0));
+        assertEquals(1, calls("completed"));
+    }
+
+    @Test
+    void requestTimeoutHeaderMapsTo504() throws Exception {
+        stub.hold = true;
+
+        long start = System.nanoTime();
+        MvcResult started = mvc.perform(post("/api/v1/generate-summary")
+                        .contentType(MediaType.APPLICATION_JSON).content(REQ)
+                        .header("X-Request-Timeout", "200"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult(5_000);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.summary").value("요약 생성 실패: 요약 생성 시간(200ms) 초과"));
+        assertTrue(elapsedMs >= 200 && elapsedMs < 5_000, "제한: " + elapsedMs + "ms");
+        assertEquals(1, calls("timeout"));
+        assertTrue(stub.closed.await(5, TimeUnit.SECONDS), "제한 시간이 지나도 상위 연결이 닫히지 않음");
+    }
+
+    @Test
+    void nonPositiveRequestTimeoutIs400() throws Exception {
+        for (String value : List.of("0", "-5")) {
+            mvc.perform(post("/api/v1/generate-summary")
+                            .contentType(MediaType.APPLICATION_JSON).content(REQ)
+                            .header("X-Request-Timeout", value))
+                    .andExpect(status().isBadRequest());
+        }
+        assertEquals(0, stub.requests.get(), "400 인데 상위를 호출함");
+    }
+
+    @Test
+    void disposingTheSubscriptionCancelsTheUpstreamCall() throws Exception {
+        stub.hold = true;
+
+        Disposable subscription = service.generate(new GenerateSummaryReq("주문 서버 개편", null, null, null, null),
+                Duration.ofSeconds(10)).subscribe();
+        assertTrue(stub.received.await(5, TimeUnit.SECONDS), "상위 요청이 오지 않음");
+        subscription.dispose();
+
+        assertTrue(stub.closed.await(5, TimeUnit.SECONDS), "구독을 끊어도 상위 연결이 닫히지 않음");
+        assertEquals(1, calls("cancelled"));
+        assertEquals(0, calls("completed") + calls("failed") + calls("timeout"));
+    }
+
+    private long calls(String outcome) {
+        var timer = meters.find("ai.summary.calls").tag("mode", "single").tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    /** POST /v1/responses 스텁. hold 면 응답하지 않고 클라이언트가 연결을 닫을 때까지 기다린다 */
+    private static final class StubModel implements AutoCloseable {
+        private final ServerSocket server = new ServerSocket(0, 16, InetAddress.getLoopbackAddress());
+        final List<String> bodies = new CopyOnWriteArrayList<>();
+        final AtomicInteger requests = new AtomicInteger();
+        final CountDownLatch received = new CountDownLatch(1);
+        final CountDownLatch closed = new CountDownLatch(1);
+        volatile boolean hold;
+        volatile String response = "{}";
+
+        StubModel() throws IOException {
+            Thread t = new Thread(this::acceptLoop, "stub-model");
+            t.setDaemon(true);
+            t.start();
+        }
+
+        int port() {
+            return server.getLocalPort();
+        }
+
+        private void acceptLoop() {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    Thread t = new Thread(() -> handle(socket), "stub-model-conn");
+                    t.setDaemon(true);
+                    t.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) {
+            try (socket) {
+                socket.setSoTimeout(10_000);
+                InputStream in = socket.getInputStream();
+                String head = readHead(in);
+                int length = 0;
+                for (String line : head.split("\r\n")) {
+                    if (line.toLowerCase(Locale.ROOT).startsWith("content-length:")) {
+                        length = Integer.parseInt(line.substring(line.indexOf(':') + 1).trim());
+                    }
+                }
+                bodies.add(new String(in.readNBytes(length), StandardCharsets.UTF_8));
+                requests.incrementAndGet();
+                received.countDown();
+                if (hold) {
+                    // 응답 없이 기다리다 클라이언트가 닫으면 -1 (또는 reset)
+                    try {
+                        if (in.read() == -1) closed.countDown();
+                    } catch (SocketException e) {
+                        closed.countDown();
+                    }
+                    return;
+                }
+                byte[] body = response.getBytes(StandardCharsets.UTF_8);
+                OutputStream out = socket.getOutputStream();
+                out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: " + body.length
+                        + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.write(body);
+                out.flush();
+            } catch (IOException e) {
+                // 소켓 타임아웃/종료
+            }
+        }
+
+        private static String readHead(InputStream in) throws IOException {
+            ByteArrayOutputStream head = new ByteArrayOutputStream();
+            int matched = 0;
+            byte[] end = { '\r', '\n', '\r', '\n' };
+            while (matched < end.length) {
+                int b = in.read();
+                if (b < 0) throw new IOException("요청 헤더 중간에 닫힘");
+                head.write(b);
+                matched = b == end[matched] ? matched + 1 : (b == '\r' ? 1 : 0);
+            }
+            return head.toString(StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+// src/test/java/com/example/portfolioai/dto/PortfolioDocumentTest.java
+package com.example.portfolioai.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.portfolioai.service.RemodelAssembler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * data_json 왕복. PortfolioDocument 에 없는 FE 필드(최상위, 항목 안)도 읽고 다시 쓸 때 그대로 남아야 한다.
+ */
+class PortfolioDocumentTest {
+
+    private static final String JSON = """
+            {"name":"홍길동","role":"백엔드","theme":{"color":"navy","font":"Pretendard"},"layoutVersion":3,
+             "skills":["Java",{"name":"Kotlin","icon":"kotlin.svg","level":4}],
+             "projects":[{"title":"주문 서버","techs":["Spring Boot"],"period":"2023.01 - 2023.12","pinned":true},
+                         {"title":"정산 배치","techs":["Kafka"]}],
+             "awards":[{"title":"해커톤 대상","issuer":"사내","url":"https://example.com/award"}],
+             "extra":"FE 필드 이름이 extra 여도 그대로"}
+            """;
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    @Test
+    void unknownFieldsRoundTrip() throws Exception {
+        PortfolioDocument doc = om.readValue(JSON, PortfolioDocument.class);
+
+        assertEquals(Map.of("color", "navy", "font", "Pretendard"), doc.extra().get("theme"));
+        assertEquals(Map.of("level", 4), doc.skills().get(1).extra());
+        assertEquals(Map.of(), doc.skills().get(0).extra());
+        assertEquals(true, doc.projects().get(0).extra().get("pinned"));
+
+        JsonNode written = om.readTree(om.writeValueAsBytes(doc));
+
+        assertEquals(om.readTree(JSON), withoutDefaults(written));
+        assertEquals(doc, om.readValue(om.writeValueAsBytes(doc), PortfolioDocument.class));
+    }
+
+    @Test
+    void overlayKeepsUnknownFields() throws Exception {
+        PortfolioDocument base = om.readValue(JSON, PortfolioDocument.class);
+
+        PortfolioDocument remodel = new RemodelAssembler(om, null)
+                .fromOverlay(base, Map.of("projects", new int[] { 1, 0 }), "리모델");
+
+        JsonNode written = om.readTree(om.writeValueAsBytes(remodel));
+
+        assertEquals("navy", written.path("theme").path("color").asText());
+        assertEquals(3, written.path("layoutVersion").asInt());
+        assertEquals(List.of("정산 배치", "주문 서버"), List.of(
+                written.path("projects").path(0).path("title").asText(),
+                written.path("projects").path(1).path("title").asText()));
+        assertEquals("2023.01 - 2023.12", written.path("projects").path(1).path("period").asText());
+    }
+
+    /** 원본에 없던 기본값(빈 목록, 문자열 스킬의 빈 icon)을 빼서 원본과 비교 */
+    private static JsonNode withoutDefaults(JsonNode written) {
+        ObjectNode copy = written.deepCopy();
+        copy.remove(List.of("contacts", "experiences", "educations", "certifications"));
+        copy.withArray("skills").set(0, copy.path("skills").path(0).path("name"));
+        for (JsonNode p : copy.withArray("projects")) {
+            ((ObjectNode) p).remove(List.of("contributions", "images"));
+        }
+        return copy;
+    }
+}
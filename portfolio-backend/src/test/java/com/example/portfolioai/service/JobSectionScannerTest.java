@@ -0,0 +1,131 @@
+// src/test/java/com/example/portfolioai/service/JobSectionScannerTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.example.portfolioai.dto.JobReqPref;
+
+/**
+ * JobSectionScanner 가 예전 정규식 기반 extractReqPref (baseline) 와 같은 결과를 내는지.
+ * 저장된 공고 텍스트(postings/sections)를 LF / CRLF / CR 로 바꿔 가며, 그리고 무작위로 만든 텍스트로 비교한다.
+ */
+class JobSectionScannerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "backend-ko.txt", "english-lowercase.txt", "many-items.txt", "implicit-sections.txt" })
+    void matchesLegacyExtractorOnFixtures(String fixture) throws IOException {
+        String text = read("postings/sections/" + fixture);
+        for (String eol : List.of("\n", "\r\n", "\r", "\n\n", "\r\n\r\n")) {
+            assertSame(text.replace("\n", eol), fixture + " (eol " + eol.replace("\r", "CR").replace("\n", "LF") + ")");
+        }
+    }
+
+    @Test
+    void fixturesCoverTheInterestingCases() throws IOException {
+        JobReqPref many = JobSectionScanner.scan(read("postings/sections/many-items.txt"));
+        assertEquals(JobSectionScanner.MAX_ITEMS, many.getRequired().size());
+        assertEquals(JobSectionScanner.MAX_ITEMS, many.getPreferred().size());
+
+        JobReqPref english = JobSectionScanner.scan(read("postings/sections/english-lowercase.txt"));
+        assertTrue(english.getRequired().contains("Strong understanding of distributed systems"), english.getRequired().toString());
+        assertTrue(english.getPreferred().contains("Prior fintech experience is a plus"), english.getPreferred().toString());
+
+        JobReqPref ko = JobSectionScanner.scan(read("postings/sections/backend-ko.txt"));
+        assertTrue(ko.getRequired().contains("REST API 설계 경험"), ko.getRequired().toString());
+        assertTrue(ko.getPreferred().contains("AWS 인프라 구축 경험"), ko.getPreferred().toString());
+    }
+
+    @Test
+    void matchesLegacyExtractorOnRandomText() {
+        String[] fragments = {
+            "자격요건", "지원자격", "필수조건", "REQUIREMENTS", "requirement", "Required:", "자격", "요건",
+            "우대사항", "우대조건", "가산점", "PREFERRED", "nice to have", "Nice To Have", "선호", "우대",
+            "주요업무", "담당업무", "복리후생", "about", "RESPONSIBILITIES", "업무내용", "지원방법",
+            "3년 이상 경험", "필요합니다", "요구 사항", "좋아요", "환영합니다",
+            "Java", "Spring Boot 개발", "짧음", "ok", "Kafka 운영 경험 있으신 분", "İstanbul ofis", "ſtrong skill",
+            "•", "‣", "▪", "▶", "▸", "·", "ㆍ", "-", "*", " ", "\t", "  ", "-•- ", "a", "가나다라마바사"
+        };
+        String[] separators = { "\n", "\r\n", "\r", "\n\n", " ", "", "\r\r\n", "\n \n" };
+        Random random = new Random(20261017);
+        for (int c = 0; c < 3000; c++) {
+            StringBuilder sb = new StringBuilder();
+            int parts = 1 + random.nextInt(80);
+            for (int i = 0; i < parts; i++) {
+                sb.append(fragments[random.nextInt(fragments.length)]);
+                sb.append(separators[random.nextInt(separators.length)]);
+            }
+            assertSame(sb.toString(), "random case " + c);
+        }
+    }
+
+    private static void assertSame(String text, String label) {
+        JobReqPref expected = Legacy.extractReqPref(text);
+        JobReqPref actual = JobSectionScanner.scan(text);
+        assertEquals(expected.getRequired(), actual.getRequired(), label + ": required");
+        assertEquals(expected.getPreferred(), actual.getPreferred(), label + ": preferred");
+    }
+
+    private static String read(String path) throws IOException {
+        try (InputStream in = JobSectionScannerTest.class.getClassLoader().getResourceAsStream(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /** baseline(01cd0bf) RemodelBuildService.extractReqPref 그대로 (로그만 뺌) */
+    static final class Legacy {
+        private static final Pattern REQ_HDR = Pattern.compile("(자격요건|지원자격|필수요건|필수조건|Requirements?|Required|자격|요건)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern PREF_HDR = Pattern.compile("(우대사항|우대조건|가산점|Preferred|Nice to have|우대|선호|우대사항|우대조건)", Pattern.CASE_INSENSITIVE);
+        private static final Pattern STOP_HDR = Pattern.compile("(주요업무|담당업무|근무조건|전형절차|복리후생|회사소개|About|Responsibilities?|업무내용|근무환경|지원방법|전형절차)", Pattern.CASE_INSENSITIVE);
+
+        static JobReqPref extractReqPref(String cleanText) {
+            String normalized = cleanText
+                    .replaceAll("[•‣▪▶▸·ㆍ]", "- ")
+                    .replaceAll("\\r\\n", "\n")
+                    .replaceAll("\\r", "\n")
+                    .replaceAll("\\n+", "\n");
+            String[] lines = normalized.split("\\n");
+            List<String> req = new ArrayList<>();
+            List<String> pref = new ArrayList<>();
+            int mode = 0;
+            for (String raw : lines) {
+                String line = raw.trim();
+                if (line.isEmpty()) continue;
+                if (REQ_HDR.matcher(line).find()) { mode = 1; continue; }
+                if (PREF_HDR.matcher(line).find()) { mode = 2; continue; }
+                if (STOP_HDR.matcher(line).find()) { mode = 0; continue; }
+                if (mode == 0) {
+                    if (line.contains("년") && (line.contains("경험") || line.contains("필요") || line.contains("요구"))) {
+                        mode = 1;
+                    } else if (line.contains("우대") || line.contains("선호") || line.contains("좋아요") || line.contains("환영")) {
+                        mode = 2;
+                    }
+                }
+                if (mode == 1) {
+                    String reqItem = line.replaceAll("^[-\\s•‣▪▶▸·ㆍ]+", "").trim();
+                    if (!reqItem.isBlank() && reqItem.length() > 5) req.add(reqItem);
+                }
+                if (mode == 2) {
+                    String prefItem = line.replaceAll("^[-\\s•‣▪▶▸·ㆍ]+", "").trim();
+                    if (!prefItem.isBlank() && prefItem.length() > 5) pref.add(prefItem);
+                }
+            }
+            req = req.stream().filter(s -> !s.isBlank()).limit(15).collect(Collectors.toList());
+            pref = pref.stream().filter(s -> !s.isBlank()).limit(15).collect(Collectors.toList());
+            return new JobReqPref(req, pref);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+// src/test/java/com/example/portfolioai/service/LlmKeywordExtractorTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.portfolioai.dto.JobReqPref;
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.service.LlmKeywordExtractor.Extraction;
+import com.example.portfolioai.service.LlmKeywordExtractor.Source;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * LlmKeywordExtractor 를 로컬 스텁 모델 서버(com.sun.net.httpserver, POST /v1/responses)에 붙여서 확인한다.
+ * deadline 안에 LLM 이 이기는 경우, deadline 이 지나 규칙 기반 임시 결과 → 다음 요청에 LLM_CACHED 인 경우,
+ * 상위 서버 실패/엉뚱한 응답이면 규칙 기반 결과가 최종 결과인 경우.
+ */
+class LlmKeywordExtractorTest {
+
+    private static final JobReqPref POSTING = new JobReqPref(
+            List.of("Java, Spring Boot 기반 서버 개발 경험 3년 이상", "JPA 와 관계형 데이터베이스 설계 경험"),
+            List.of("Kafka 등 메시지 큐 운영 경험"));
+
+    private static final List<Keyword> RULES = List.of(
+            new Keyword("java", 0.5, Keyword.Kind.TECH),
+            new Keyword("jpa", 0.5, Keyword.Kind.TECH));
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    private HttpServer server;
+    private MeterRegistry meters;
+
+    /** 받은 요청 본문 */
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    /** 응답 상태와 본문 (테스트마다 바꾼다) */
+    private volatile int status = 200;
+    private volatile String response;
+    /** 열릴 때까지 응답을 붙잡아 둔다 */
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile boolean hold;
+
+    @BeforeEach
+    void start() throws IOException {
+        response = responsesBody("""
+                {"keywords":[
+                  {"term":"Spring Boot","weight":0.9,"kind":"TECH"},
+                  {"term":"JPA","weight":0.8,"kind":"TECH"},
+                  {"term":"jpa","weight":0.6,"kind":"TECH"},
+                  {"term":"Kafka","weight":1.7,"kind":"TECH"},
+                  {"term":"백엔드","weight":0.7,"kind":"ROLE"},
+                  {"term":"메시지 큐","weight":0.4,"kind":"DOMAIN"}]}
+                """);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/responses", ex -> {
+            bodies.add(new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            if (hold) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            send(ex, status, response);
+        });
+        server.start();
+        meters = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void stop() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void llmWinsWithinDeadline() throws Exception {
+        LlmKeywordExtractor extractor = extractor(Duration.ofSeconds(5));
+
+        Extraction e = extractor.extract(POSTING, () -> RULES);
+
+        assertEquals(Source.LLM, e.source());
+        assertFalse(e.provisional());
+        // 같은 키워드는 가중치 큰 쪽 하나, 가중치는 [0, 1], 모르는 kind 는 ETC
+        assertEquals(List.of("Spring Boot 0.9 TECH", "JPA 0.8 TECH", "Kafka 1.0 TECH", "백엔드 0.7 ROLE", "메시지 큐 0.4 ETC"),
+                describe(e.keywords()));
+
+        assertEquals(1, bodies.size());
+        Map<?, ?> sent = om.readValue(bodies.get(0), Map.class);
+        assertEquals("stub-model", sent.get("model"));
+        assertTrue(bodies.get(0).contains("JPA 와 관계형 데이터베이스 설계 경험"), "섹션이 프롬프트에 없음");
+        assertEquals(1, count(Source.LLM));
+    }
+
+    @Test
+    void lateLlmResultIsProvisionalThenCached() throws Exception {
+        hold = true;
+        LlmKeywordExtractor extractor = extractor(Duration.ofMillis(200));
+
+        Extraction first = extractor.extract(POSTING, () -> RULES);
+        // 같은 공고가 LLM 을 기다리는 동안 다시 와도 호출은 하나
+        Extraction second = extractor.extract(POSTING, () -> RULES);
+
+        assertEquals(Source.RULES_PENDING, first.source());
+        assertTrue(first.provisional());
+        assertEquals(RULES, first.keywords());
+        assertEquals(Source.RULES_PENDING, second.source());
+
+        release.countDown();
+        awaitCached(extractor, 1);
+        Extraction third = extractor.extract(POSTING, () -> RULES);
+
+        assertEquals(Source.LLM_CACHED, third.source());
+        assertFalse(third.provisional());
+        assertEquals("Spring Boot", third.keywords().get(0).getTerm());
+        assertEquals(1, bodies.size());
+        assertEquals(2, count(Source.RULES_PENDING));
+        assertEquals(1, count(Source.LLM_CACHED));
+    }
+
+    @Test
+    void upstreamFailureFallsBackToRules() {
+        status = 500;
+        response = "{\"error\":{\"message\":\"upstream unavailable\"}}";
+        LlmKeywordExtractor extractor = extractor(Duration.ofSeconds(5));
+
+        Extraction e = extractor.extract(POSTING, () -> RULES);
+
+        // 실패는 최종 결과 (임시가 아니라 저장되고, 다음 요청이 LLM 을 다시 기다리지 않는다)
+        assertEquals(Source.RULES, e.source());
+        assertFalse(e.provisional());
+        assertEquals(RULES, e.keywords());
+        assertEquals(0, extractor.cachedCount());
+        assertEquals(1, meters.counter("remodel.keywords.llm.failures").count());
+    }
+
+    @Test
+    void unusableResponseFallsBackToRules() {
+        response = responsesBody("{\"keywords\":[{\"term\":\"   \",\"weight\":0.5,\"kind\":\"TECH\"}]}");
+        LlmKeywordExtractor extractor = extractor(Duration.ofSeconds(5));
+
+        Extraction e = extractor.extract(POSTING, () -> RULES);
+
+        assertEquals(Source.RULES, e.source());
+        assertEquals(RULES, e.keywords());
+        assertEquals(1, meters.counter("remodel.keywords.llm.failures").count());
+    }
+
+    @Test
+    void disabledUsesRulesWithoutCalling() {
+        LlmKeywordExtractor extractor = new LlmKeywordExtractor(webClient(), om, meters, false, "stub-model",
+                Duration.ofSeconds(5), Duration.ofSeconds(5), 1200, 16);
+
+        Extraction e = extractor.extract(POSTING, () -> RULES);
+
+        assertEquals(Source.RULES, e.source());
+        assertEquals(0, bodies.size());
+    }
+
+    private LlmKeywordExtractor extractor(Duration deadline) {
+        return new LlmKeywordExtractor(webClient(), om, meters, true, "stub-model",
+                deadline, Duration.ofSeconds(10), 1200, 16);
+    }
+
+    private WebClient webClient() {
+        return WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/v1")
+                .defaultHeader("Content-Type", "application/json")
+                .build();
+    }
+
+    /** Responses API 응답 모양 (output[].content[].text 에 구조화 출력 JSON) */
+    private String responsesBody(String text) {
+        try {
+            return om.writeValueAsString(Map.of("output", List.of(Map.of(
+                    "type", "message",
+                    "content", List.of(Map.of("type", "output_text", "text", text))))));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> describe(List<Keyword> keywords) {
+        return keywords.stream().map(k -> k.getTerm() + " " + k.getWeight() + " " + k.getKind()).toList();
+    }
+
+    private int count(Source source) {
+        return (int) meters.counter("remodel.keywords.source", "source", source.name().toLowerCase()).count();
+    }
+
+    private static void awaitCached(LlmKeywordExtractor extractor, int n) throws InterruptedException {
+        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (extractor.cachedCount() < n && System.nanoTime() < until) Thread.sleep(10);
+        assertEquals(n, extractor.cachedCount(), "늦게 온 LLM 결과가 보관되지 않음");
+    }
+
+    private static void send(HttpExchange ex, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
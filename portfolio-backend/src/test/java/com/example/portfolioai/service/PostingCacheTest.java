@@ -0,0 +1,337 @@
+// src/test/java/com/example/portfolioai/service/PostingCacheTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PostingCache 를 로컬 스텁 서버(com.sun.net.httpserver)에 붙여서 확인한다.
+ * ETag/Last-Modified 조건부 GET 과 304 재사용, 검증자 없는 응답의 TTL 만료, 항목 수/바이트 LRU 축출, 결과별 카운터,
+ * 저장하지 않을 응답(캐시 꺼짐, 바이트 상한 초과)의 스트림 경로.
+ */
+class PostingCacheTest {
+
+    private static final String ETAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Wed, 14 Oct 2026 09:00:00 GMT";
+
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connections;
+    private CloseableHttpClient http;
+    private PostingCrawlClient crawler;
+    private MeterRegistry meters;
+
+    /** 경로별 요청 수 */
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    /** 받은 조건부 헤더 ("경로 헤더=값") */
+    private final List<String> conditionals = new CopyOnWriteArrayList<>();
+    /** /changing 이 지금 내보내는 ETag */
+    private volatile String changingEtag = "\"a\"";
+
+    @BeforeEach
+    void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub("/etag", ex -> {
+            ex.getResponseHeaders().set("ETag", ETAG);
+            if (ETAG.equals(ex.getRequestHeaders().getFirst("If-None-Match"))) {
+                empty(ex, 304);
+            } else {
+                send(ex, 200, "etag 공고 본문");
+            }
+        });
+        stub("/last-modified", ex -> {
+            if (LAST_MODIFIED.equals(ex.getRequestHeaders().getFirst("If-Modified-Since"))) {
+                empty(ex, 304);
+            } else {
+                ex.getResponseHeaders().set("Last-Modified", LAST_MODIFIED);
+                send(ex, 200, "last-modified 공고 본문");
+            }
+        });
+        stub("/changing", ex -> {
+            String etag = changingEtag;
+            ex.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(ex.getRequestHeaders().getFirst("If-None-Match"))) {
+                empty(ex, 304);
+            } else {
+                send(ex, 200, "본문 " + etag);
+            }
+        });
+        stub("/plain", ex -> send(ex, 200, "검증자 없는 공고 " + requests("/plain")));
+        stub("/sized", ex -> {
+            // /sized/<이름>?n=<바이트 수>
+            int n = Integer.parseInt(ex.getRequestURI().getQuery().substring(2));
+            ex.getResponseHeaders().set("ETag", "\"" + ex.getRequestURI().getPath() + "\"");
+            send(ex, 200, "x".repeat(n));
+        });
+        stub("/missing", ex -> send(ex, 404, "없음"));
+        server.start();
+
+        connections = PoolingHttpClientConnectionManagerBuilder.create().build();
+        http = HttpClients.custom().setConnectionManager(connections).disableCookieManagement().build();
+        meters = new SimpleMeterRegistry();
+        crawler = new PostingCrawlClient(http, connections, meters, 4, Duration.ofSeconds(5), Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        crawler.destroy();
+        http.close();
+        connections.close();
+        server.stop(0);
+    }
+
+    @Test
+    void etagRevalidatesWith304AndReusesTheCachedBody() throws IOException {
+        PostingCache cache = cache(Duration.ZERO, Duration.ofMinutes(10), 16, 1 << 20);
+
+        PostingCache.CachedPosting first = cache.fetch(uri("/etag"));
+        PostingCache.CachedPosting second = cache.fetch(uri("/etag"));
+
+        assertEquals(ETAG, first.etag());
+        assertSame(first, second);
+        assertArrayEquals("etag 공고 본문".getBytes(StandardCharsets.UTF_8), second.body());
+        assertEquals(2, requests("/etag"));
+        assertEquals(List.of("/etag If-None-Match=" + ETAG), conditionals);
+        assertCounts(cache, 0, 1, 1, 0);
+    }
+
+    @Test
+    void lastModifiedRevalidatesWith304() throws IOException {
+        PostingCache cache = cache(Duration.ZERO, Duration.ofMinutes(10), 16, 1 << 20);
+
+        PostingCache.CachedPosting first = cache.fetch(uri("/last-modified"));
+        PostingCache.CachedPosting second = cache.fetch(uri("/last-modified"));
+
+        assertEquals(LAST_MODIFIED, first.lastModified());
+        assertSame(first, second);
+        assertEquals(2, requests("/last-modified"));
+        assertEquals(List.of("/last-modified If-Modified-Since=" + LAST_MODIFIED), conditionals);
+        assertCounts(cache, 0, 1, 1, 0);
+    }
+
+    @Test
+    void freshEntriesAreServedWithoutTheNetwork() throws IOException {
+        PostingCache cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(10), 16, 1 << 20);
+
+        PostingCache.CachedPosting first = cache.fetch(uri("/etag"));
+        PostingCache.CachedPosting second = cache.fetch(uri("/etag"));
+
+        assertSame(first, second);
+        assertEquals(1, requests("/etag"));
+        assertEquals(List.of(), conditionals);
+        assertCounts(cache, 1, 1, 0, 0);
+    }
+
+    @Test
+    void changedEtagReplacesTheEntry() throws IOException {
+        PostingCache cache = cache(Duration.ZERO, Duration.ofMinutes(10), 16, 1 << 20);
+
+        cache.fetch(uri("/changing"));
+        changingEtag = "\"b\"";
+        PostingCache.CachedPosting updated = cache.fetch(uri("/changing"));
+        PostingCache.CachedPosting again = cache.fetch(uri("/changing"));
+
+        assertEquals("\"b\"", updated.etag());
+        assertEquals("본문 \"b\"", new String(updated.body(), StandardCharsets.UTF_8));
+        assertSame(updated, again);
+        assertEquals(List.of("/changing If-None-Match=\"a\"", "/changing If-None-Match=\"b\""), conditionals);
+        assertCounts(cache, 0, 1, 1, 1);
+    }
+
+    @Test
+    void responsesWithoutValidatorsExpireAfterTtl() throws Exception {
+        PostingCache cache = cache(Duration.ZERO, Duration.ofMillis(300), 16, 1 << 20);
+
+        PostingCache.CachedPosting first = cache.fetch(uri("/plain"));
+        PostingCache.CachedPosting cached = cache.fetch(uri("/plain"));
+        assertSame(first, cached);
+        assertEquals(1, requests("/plain"));
+
+        Thread.sleep(450);
+        PostingCache.CachedPosting refetched = cache.fetch(uri("/plain"));
+
+        assertEquals("검증자 없는 공고 2", new String(refetched.body(), StandardCharsets.UTF_8));
+        assertEquals(2, requests("/plain"));
+        // 검증자가 없으니 조건부 GET 없이 새로 받는다
+        assertEquals(List.of(), conditionals);
+        assertEquals(1, cache.size());
+        assertCounts(cache, 1, 2, 0, 0);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenOverEntryLimit() throws IOException {
+        PostingCache cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(10), 2, 1 << 20);
+
+        cache.fetch(uri("/sized/a?n=10"));
+        cache.fetch(uri("/sized/b?n=10"));
+        cache.fetch(uri("/sized/a?n=10")); // a 를 최근으로
+        cache.fetch(uri("/sized/c?n=10")); // b 가 밀려난다
+
+        assertEquals(2, cache.size());
+        cache.fetch(uri("/sized/a?n=10"));
+        assertEquals(1, requests("/sized/a"));
+        cache.fetch(uri("/sized/b?n=10"));
+        assertEquals(2, requests("/sized/b"));
+        assertCounts(cache, 2, 4, 0, 0);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenOverByteLimit() throws IOException {
+        PostingCache cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(10), 16, 250);
+
+        cache.fetch(uri("/sized/a?n=100"));
+        cache.fetch(uri("/sized/b?n=100"));
+        assertEquals(200, cache.bytes());
+        cache.fetch(uri("/sized/c?n=100")); // 300 > 250 → a 축출
+
+        assertEquals(2, cache.size());
+        assertEquals(200, cache.bytes());
+        cache.fetch(uri("/sized/a?n=100"));
+        assertEquals(2, requests("/sized/a"));
+
+        // 상한보다 큰 본문은 돌려주기만 하고 저장하지 않는다
+        PostingCache.CachedPosting huge = cache.fetch(uri("/sized/huge?n=300"));
+        assertEquals(300, huge.body().length);
+        assertEquals(200, cache.bytes());
+        cache.fetch(uri("/sized/huge?n=300"));
+        assertEquals(2, requests("/sized/huge"));
+    }
+
+    @Test
+    void non2xxIsNotCached() throws IOException {
+        PostingCache cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(10), 16, 1 << 20);
+
+        assertNull(cache.fetch(uri("/missing")));
+        assertNull(cache.fetch(uri("/missing")));
+
+        assertEquals(0, cache.size());
+        assertEquals(2, requests("/missing"));
+        assertCounts(cache, 0, 2, 0, 0);
+    }
+
+    @Test
+    void responsesThatWillNotBeStoredAreStreamed() throws IOException {
+        PostingCache cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(10), 16, 250);
+        AtomicInteger streamed = new AtomicInteger();
+        PostingCache.StreamReader<String> reader = (body, contentType) -> {
+            streamed.incrementAndGet();
+            // RemodelBuildService.parseStreamed 와 같게: 받으면서 파싱하고 지나간 바이트로 분석 키를 만든다
+            MessageDigest md = PostingAnalysisCache.keyDigest("url", "v1");
+            PostingDocumentReader.parse(new DigestInputStream(body, md), contentType, "http://127.0.0.1/", 1 << 20);
+            return PostingAnalysisCache.key(md);
+        };
+
+        // Content-Length 가 바이트 상한보다 크면 저장할 수 없으니 바이트로 모으지 않는다
+        PostingCache.Fetched<String> huge = cache.fetch(uri("/sized/huge?n=300"), reader);
+
+        assertNull(huge.posting());
+        assertEquals(PostingAnalysisCache.key("x".repeat(300).getBytes(StandardCharsets.UTF_8), "url", "v1"), huge.streamed());
+        assertEquals(0, cache.size());
+
+        // 저장할 응답은 바이트로 받아서 캐시에 넣는다 (reader 는 안 부른다)
+        PostingCache.Fetched<String> small = cache.fetch(uri("/sized/a?n=10"), reader);
+
+        assertEquals(10, small.posting().body().length);
+        assertNull(small.streamed());
+        assertEquals(1, streamed.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void disabledCacheStreamsEveryResponse() throws IOException {
+        PostingCache cache = new PostingCache(crawler, meters, false, 16, 1 << 20, 1 << 20,
+                Duration.ofMinutes(1), Duration.ofMinutes(10));
+
+        PostingCache.Fetched<String> first = cache.fetch(uri("/etag"), (body, contentType) -> new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        PostingCache.Fetched<String> second = cache.fetch(uri("/etag"), (body, contentType) -> new String(body.readAllBytes(), StandardCharsets.UTF_8));
+
+        assertNull(first.posting());
+        assertEquals("etag 공고 본문", first.streamed());
+        assertEquals("etag 공고 본문", second.streamed());
+        assertEquals(2, requests("/etag"));
+        assertEquals(List.of(), conditionals);
+        assertEquals(0, cache.size());
+    }
+
+    // ======== helpers ========
+    private PostingCache cache(Duration freshFor, Duration ttl, int maxEntries, long maxTotalBytes) {
+        return new PostingCache(crawler, meters, true, maxEntries, maxTotalBytes, 1 << 20, freshFor, ttl);
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + pathAndQuery);
+    }
+
+    private int requests(String path) {
+        AtomicInteger n = requests.get(path);
+        return n == null ? 0 : n.get();
+    }
+
+    private void assertCounts(PostingCache cache, int hit, int miss, int revalidated, int modified) {
+        assertEquals(hit, count("hit"), "hit");
+        assertEquals(miss, count("miss"), "miss");
+        assertEquals(revalidated, count("revalidated"), "revalidated");
+        assertEquals(modified, count("modified"), "modified");
+    }
+
+    private int count(String result) {
+        return (int) meters.get("posting.cache.requests").tag("result", result).counter().count();
+    }
+
+    /** 경로별 요청 수와 조건부 헤더를 기록한 뒤 handler 로 넘긴다 */
+    private void stub(String path, HttpHandler handler) {
+        server.createContext(path, ex -> {
+            String requested = ex.getRequestURI().getPath();
+            requests.computeIfAbsent(requested, p -> new AtomicInteger()).incrementAndGet();
+            for (String name : List.of("If-None-Match", "If-Modified-Since")) {
+                String value = ex.getRequestHeaders().getFirst(name);
+                if (value != null) conditionals.add(requested + " " + name + "=" + value);
+            }
+            handler.handle(ex);
+        });
+    }
+
+    private static void send(HttpExchange ex, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void empty(HttpExchange ex, int status) throws IOException {
+        ex.sendResponseHeaders(status, -1);
+        ex.close();
+    }
+}
@@ -0,0 +1,123 @@
+// src/test/java/com/example/portfolioai/service/PostingTermStatsTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.portfolioai.dto.Keyword;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PostingTermStats.idf: min-postings 전에는 1, df 는 N 을 넘지 않게 자르고,
+ * 표가 가득 차면 동시에 record 해도 max-terms 개만 intern 되고 나머지는 처음 보는 키워드(IDF 1)로 남는다.
+ */
+class PostingTermStatsTest {
+
+    private final MeterRegistry meters = new SimpleMeterRegistry();
+
+    @Test
+    void idfIsOneBelowMinPostings() {
+        PostingTermStats stats = stats("bm25", 3, 16);
+
+        stats.record(keywords("Java", "Spring"));
+        stats.record(keywords("Java", "java ")); // 같은 공고 안의 중복은 한 번
+        assertEquals(1.0, stats.idf("java"));
+
+        stats.record(keywords("Kafka"));
+
+        assertEquals(3, stats.postings());
+        assertEquals(expected(3, 2), stats.idf("Java"));
+        assertEquals(expected(3, 1), stats.idf("kafka"));
+        assertEquals(1.0, stats.idf("처음 보는 키워드"));
+        assertTrue(stats.idf("java") < stats.idf("kafka"), "흔한 키워드일수록 IDF 가 작아야 함");
+    }
+
+    @Test
+    void docFreqIsClampedToPostings() {
+        PostingTermStats stats = stats("bm25", 1, 16);
+        stats.record(keywords("Java"));
+        stats.record(keywords("Java"));
+
+        // record 가 df 를 올리고 postings 를 올리기 전에 읽는 경우 (df = N + 1)
+        AtomicIntegerArray docFreq = (AtomicIntegerArray) ReflectionTestUtils.getField(stats, "docFreq");
+        docFreq.incrementAndGet(0);
+
+        double idf = stats.idf("java");
+        assertEquals(expected(2, 2), idf);
+        assertTrue(idf > 0, "df 가 N 을 넘어 IDF 가 0 이하");
+    }
+
+    @Test
+    void fullTableInternsAtMostMaxTermsUnderConcurrentRecord() throws Exception {
+        int maxTerms = 4;
+        int threads = 8;
+        int perThread = 50;
+        PostingTermStats stats = stats("bm25", 1, maxTerms);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) stats.record(keywords("t" + thread + "-" + i, "shared"));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, stats.postings());
+        assertEquals(maxTerms, (int) meters.get("remodel.scoring.terms").gauge().value());
+        int internedRecords = 0;
+        AtomicIntegerArray docFreq = (AtomicIntegerArray) ReflectionTestUtils.getField(stats, "docFreq");
+        for (int i = 0; i < docFreq.length(); i++) internedRecords += docFreq.get(i);
+        assertTrue(internedRecords >= maxTerms, "intern 된 키워드의 df 가 빠짐");
+
+        assertEquals(-1, (int) ReflectionTestUtils.invokeMethod(stats, "intern", "새 키워드"));
+        assertEquals(1.0, stats.idf("새 키워드"));
+    }
+
+    @Test
+    void weightedModeDoesNotRecord() {
+        PostingTermStats stats = stats("weighted", 0, 16);
+
+        stats.record(keywords("Java"));
+
+        assertEquals(0, stats.postings());
+        assertEquals(1.0, stats.idf("java"));
+    }
+
+    private PostingTermStats stats(String mode, int minPostings, int maxTerms) {
+        return new PostingTermStats(null, new ObjectMapper(), meters, mode, 1.2, 0.75, minPostings, maxTerms, "substring", 0.5f);
+    }
+
+    private static List<Keyword> keywords(String... terms) {
+        List<Keyword> out = new ArrayList<>();
+        for (String term : terms) out.add(new Keyword(term, 0.5, Keyword.Kind.TECH));
+        return out;
+    }
+
+    private static double expected(int n, int df) {
+        return Math.log1p((n - df + 0.5) / (df + 0.5)) / Math.log1p((n + 0.5) / 0.5);
+    }
+}
@@ -0,0 +1,115 @@
+// src/test/java/com/example/portfolioai/service/RankingKernelAllocationTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * RankingKernel 요청당 할당량.
+ * 키워드 컴파일 / 포트폴리오 준비가 끝난 뒤의 점수 계산은 결과 배열 외에는 할당하지 않아야 한다
+ * (문자열 정규화/토큰화/substring 이 매칭 루프 안으로 돌아오면 키워드 × 항목 수만큼 늘어서 실패한다).
+ * 40 키워드, 스킬 30개, 프로젝트 10개 x 기술 5개.
+ */
+class RankingKernelAllocationTest {
+
+    private static final int ITERATIONS = 5_000;
+
+    private static final String[] TECHS = {
+        "Java", "Spring Boot", "Kotlin", "JPA", "MySQL", "PostgreSQL", "Redis", "Kafka", "Docker", "Kubernetes",
+        "AWS", "React", "TypeScript", "Node.js", "Python", "Django", "Go", "gRPC", "Elasticsearch", "Jenkins"
+    };
+
+    private static com.sun.management.ThreadMXBean threads;
+    private static RankingKernel.PreparedPortfolio portfolio;
+    private static List<Keyword> keywords;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        List<Map<String, Object>> skills = new ArrayList<>();
+        for (int i = 0; i < 30; i++) skills.add(Map.of("name", TECHS[i % TECHS.length] + (i < TECHS.length ? "" : " " + i)));
+        List<Map<String, Object>> projects = new ArrayList<>();
+        for (int p = 0; p < 10; p++) {
+            List<String> techs = new ArrayList<>();
+            for (int t = 0; t < 5; t++) techs.add(TECHS[(p * 3 + t) % TECHS.length]);
+            projects.add(Map.of(
+                    "title", "프로젝트 " + p + " " + TECHS[p],
+                    "description", "대용량 트래픽을 처리하는 " + TECHS[(p + 4) % TECHS.length] + " 기반 백엔드 API 서버 개발과 운영",
+                    "myRole", p % 2 == 0 ? "백엔드 개발" : "Backend engineer",
+                    "techs", techs));
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("name", "홍길동");
+        data.put("skills", skills);
+        data.put("projects", projects);
+        ObjectMapper om = new ObjectMapper();
+        PortfolioDocument doc = om.readValue(om.writeValueAsBytes(data), PortfolioDocument.class);
+        portfolio = RankingKernel.prepare(PortfolioFeatures.of(doc));
+
+        keywords = new ArrayList<>();
+        for (int k = 0; k < 40; k++) {
+            Keyword.Kind kind = k % 8 == 7 ? Keyword.Kind.ROLE : k % 8 == 6 ? Keyword.Kind.ETC : Keyword.Kind.TECH;
+            String term = k < TECHS.length ? TECHS[k] : kind == Keyword.Kind.ROLE ? "백엔드" : "keyword" + k;
+            keywords.add(new Keyword(term, 0.4 + (k % 5) * 0.1, kind));
+        }
+    }
+
+    @Test
+    void weightedScoringAllocatesOnlyResultArrays() {
+        assertPerRequestAllocation(RankingKernel.compile(keywords));
+    }
+
+    @Test
+    void bm25ScoringAllocatesOnlyResultArrays() {
+        assertPerRequestAllocation(RankingKernel.compile(keywords, new RankingKernel.Bm25(1.2, 0.75, term -> 0.5)));
+    }
+
+    @Test
+    void scoringIsDeterministicAcrossCalls() {
+        RankingKernel.CompiledKeywords kw = RankingKernel.compile(keywords);
+        assertArrayEquals(RankingKernel.scoreSkills(portfolio, kw), RankingKernel.scoreSkills(portfolio, kw));
+        assertArrayEquals(RankingKernel.projectOrder(portfolio, kw), RankingKernel.projectOrder(portfolio, kw));
+    }
+
+    private static void assertPerRequestAllocation(RankingKernel.CompiledKeywords kw) {
+        // 결과 배열: 스킬 점수 double[30] + 프로젝트 점수 double[10] + 키워드별 점수 double[40]
+        //           + 프로젝트 순서 int[10] x 2 (+ BM25 기술스택 tf int[40])
+        long resultBytes = (16 + 30 * 8) + (16 + 10 * 8) * 2 + (16 + 40 * 8) + (16 + 10 * 4) * 2 + (16 + 40 * 4) * 2;
+        double sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) sink += run(kw); // JIT 워밍업
+
+        long tid = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < ITERATIONS; i++) sink += run(kw);
+        long perRequest = (threads.getThreadAllocatedBytes(tid) - before) / ITERATIONS;
+
+        assertTrue(sink > 0, "키워드가 하나도 매칭되지 않음");
+        assertTrue(perRequest <= resultBytes,
+                "요청당 " + perRequest + " B 할당 (결과 배열 상한 " + resultBytes + " B)");
+    }
+
+    private static double run(RankingKernel.CompiledKeywords kw) {
+        double[] skills = RankingKernel.scoreSkills(portfolio, kw);
+        double[] contributions = RankingKernel.keywordContributions(portfolio, kw);
+        int[] order = RankingKernel.projectOrder(portfolio, kw);
+        return skills[0] + contributions[0] + order.length;
+    }
+}
@@ -0,0 +1,142 @@
+// src/test/java/com/example/portfolioai/service/RankingKernelBenchmarkTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 매칭 방식별 요청당 점수 계산 시간 (SUBSTRING vs SEMANTIC n-gram 벡터) 과 n-gram 내적 하나의 시간.
+ * 평소 테스트에서는 돌지 않는다: mvn -B test -Dtest=RankingKernelBenchmarkTest -Dbenchmark=true
+ * 포트폴리오는 스킬 30개, 프로젝트 10개 (한글 설명), 키워드 40개. 라운드별 중앙값(ns/op)과 매칭된 키워드 수를 출력한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RankingKernelBenchmarkTest {
+
+    private static final int WARMUP = 5_000;
+    private static final int ROUNDS = 7;
+    private static final int PER_ROUND = 2_000;
+
+    private static final String[] TECHS = {
+        "Java", "Spring Boot", "Kotlin", "JPA", "MySQL", "PostgreSQL", "Redis", "Kafka", "Docker", "Kubernetes",
+        "AWS", "React", "TypeScript", "Node.js", "Python", "Django", "Go", "gRPC", "Elasticsearch", "Jenkins"
+    };
+
+    private static final String[] DOMAINS = {
+        "결제시스템을", "정산 배치를", "주문 서버를", "추천 엔진을", "검색 서비스를"
+    };
+
+    private static RankingKernel.PreparedPortfolio portfolio;
+    private static List<Keyword> keywords;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        List<Map<String, Object>> skills = new ArrayList<>();
+        for (int i = 0; i < 30; i++) skills.add(Map.of("name", TECHS[i % TECHS.length] + (i < TECHS.length ? "" : " " + i)));
+        List<Map<String, Object>> projects = new ArrayList<>();
+        for (int p = 0; p < 10; p++) {
+            List<String> techs = new ArrayList<>();
+            for (int t = 0; t < 5; t++) techs.add(TECHS[(p * 3 + t) % TECHS.length]);
+            projects.add(Map.of(
+                    "title", "프로젝트 " + p + " " + TECHS[p],
+                    "description", "대용량 트래픽을 처리하는 " + DOMAINS[p % DOMAINS.length] + " "
+                            + TECHS[(p + 4) % TECHS.length] + " 로 설계하고 운영했습니다",
+                    "myRole", p % 2 == 0 ? "백엔드 개발" : "Backend engineer",
+                    "techs", techs));
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("name", "홍길동");
+        data.put("skills", skills);
+        data.put("projects", projects);
+        ObjectMapper om = new ObjectMapper();
+        PortfolioDocument doc = om.readValue(om.writeValueAsBytes(data), PortfolioDocument.class);
+        portfolio = RankingKernel.prepare(PortfolioFeatures.of(doc));
+
+        keywords = new ArrayList<>();
+        for (int k = 0; k < 40; k++) {
+            Keyword.Kind kind = k % 8 == 7 ? Keyword.Kind.ROLE : k % 8 == 6 ? Keyword.Kind.ETC : Keyword.Kind.TECH;
+            String term = k < TECHS.length ? TECHS[k]
+                    : kind == Keyword.Kind.ROLE ? "백엔드"
+                    : k < TECHS.length + DOMAINS.length ? DOMAINS[k - TECHS.length].replace("을", "").replace("를", "") + " 구축"
+                    : "keyword" + k;
+            keywords.add(new Keyword(term, 0.4 + (k % 5) * 0.1, kind));
+        }
+    }
+
+    @Test
+    void substringVersusSemanticScoring() {
+        RankingKernel.CompiledKeywords substring = RankingKernel.compile(keywords, null, RankingKernel.Matcher.SUBSTRING, 0f);
+        RankingKernel.CompiledKeywords semantic = RankingKernel.compile(keywords, null, RankingKernel.Matcher.SEMANTIC, 0.5f);
+
+        double substringNs = measure(substring);
+        double semanticNs = measure(semantic);
+
+        System.out.printf("scoring ns/request: substring %.0f, semantic %.0f (x%.1f)%n",
+                substringNs, semanticNs, semanticNs / substringNs);
+        System.out.printf("matched keywords: substring %d, semantic %d / %d%n",
+                matched(substring), matched(semantic), keywords.size());
+    }
+
+    @Test
+    void ngramDot() {
+        float[] words = NgramVectors.embedWords("대용량 트래픽을 처리하는 결제시스템을 Spring Boot 로 설계하고 운영했습니다");
+        float[] term = NgramVectors.embed("결제 시스템");
+        int perCall = words.length / NgramVectors.DIM;
+
+        float sink = 0f;
+        for (int i = 0; i < WARMUP; i++) sink += NgramVectors.maxDot(words, term);
+        double[] rounds = new double[ROUNDS];
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < PER_ROUND; i++) sink += NgramVectors.maxDot(words, term);
+            rounds[r] = (System.nanoTime() - start) / (double) PER_ROUND / perCall;
+        }
+
+        System.out.printf("n-gram dot (DIM %d) ns/op: %.1f%n", NgramVectors.DIM, median(rounds));
+        assertTrue(sink > 0, "유사도가 모두 0");
+    }
+
+    private static double measure(RankingKernel.CompiledKeywords kw) {
+        double sink = 0;
+        for (int i = 0; i < WARMUP; i++) sink += run(kw);
+        double[] rounds = new double[ROUNDS];
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < PER_ROUND; i++) sink += run(kw);
+            rounds[r] = (System.nanoTime() - start) / (double) PER_ROUND;
+        }
+        assertTrue(sink > 0, "키워드가 하나도 매칭되지 않음");
+        return median(rounds);
+    }
+
+    private static double run(RankingKernel.CompiledKeywords kw) {
+        double[] skills = RankingKernel.scoreSkills(portfolio, kw);
+        double[] contributions = RankingKernel.keywordContributions(portfolio, kw);
+        int[] order = RankingKernel.projectOrder(portfolio, kw);
+        return skills[0] + contributions[0] + order.length;
+    }
+
+    private static int matched(RankingKernel.CompiledKeywords kw) {
+        int n = 0;
+        for (double c : RankingKernel.keywordContributions(portfolio, kw)) if (c > 0) n++;
+        return n;
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
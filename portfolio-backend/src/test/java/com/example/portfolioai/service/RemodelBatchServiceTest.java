@@ -0,0 +1,257 @@
+// src/test/java/com/example/portfolioai/service/RemodelBatchServiceTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.portfolioai.dto.BatchRemodelReq;
+import com.example.portfolioai.dto.JobReqPref;
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.example.portfolioai.portfolio.PortfolioEntity;
+import com.example.portfolioai.portfolio.PortfolioRepository;
+import com.example.portfolioai.service.JobPostingStore.StoredPosting;
+import com.example.portfolioai.service.PostingAnalysisCache.PostingAnalysis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RemodelBatchService 를 Mockito RemodelBuildService(공고별 결과/실패/지연)와 메모리 배치 INSERT 로 확인한다.
+ * 항목별 실패와 503(풀 포화)/504(데드라인)는 index 로 보고되고 나머지는 성공, 생성된 id 는 Built 순서(ids.get(b++))와 맞고,
+ * max-items 를 넘으면 400.
+ */
+class RemodelBatchServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final long BASE_ID = 7L;
+
+    private static final String BASE_JSON = """
+            {"name":"홍길동","skills":["Java","Kafka","React"],
+             "projects":[{"title":"주문 서버","techs":["Spring Boot"]},
+                         {"title":"정산 배치","techs":["Kafka"]},
+                         {"title":"웹 프론트","techs":["React"]}]}
+            """;
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final MeterRegistry meters = new SimpleMeterRegistry();
+    private final RemodelBuildService builds = mock(RemodelBuildService.class);
+    private final RemodelPipeline pipeline = mock(RemodelPipeline.class);
+    private final FakeInsert jdbc = new FakeInsert();
+
+    private RemodelAssembler assembler;
+    private RemodelMaterializer materializer;
+    private PostingTermStats termStats;
+    private RemodelBatchService batch;
+
+    @BeforeEach
+    void setUp() {
+        termStats = new PostingTermStats(null, om, meters, "weighted", 1.2, 0.75, 20, 1024, "substring", 0.5f);
+        assembler = new RemodelAssembler(om, termStats);
+        materializer = new RemodelMaterializer(assembler, mock(PortfolioRepository.class), om, meters, 64);
+
+        PortfolioEntity base = new PortfolioEntity();
+        ReflectionTestUtils.setField(base, "id", BASE_ID);
+        base.setOwnerEmail(EMAIL);
+        base.setKind(PortfolioEntity.Kind.BASIC);
+        base.setDataJson(BASE_JSON);
+        base.setUpdatedAt(Instant.parse("2026-10-01T00:00:00Z"));
+        when(pipeline.requireOwnedBase(BASE_ID, EMAIL)).thenReturn(base);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batch != null) batch.destroy();
+    }
+
+    @Test
+    void itemFailuresAreReportedByIndexAndIdsFollowBuiltOrder() throws Exception {
+        batch = batch(4, 16, 10, Duration.ofSeconds(10));
+        // 0 번이 가장 늦게 끝나도 id 는 index 순서의 성공 항목에 차례로 붙는다
+        when(builds.analyzePosting("text", "p0")).thenAnswer(inv -> {
+            Thread.sleep(200);
+            return posting(100L, "Kafka");
+        });
+        when(builds.analyzePosting("text", "p1")).thenThrow(new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "공고 섹션 없음"));
+        when(builds.analyzePosting("text", "p2")).thenReturn(posting(102L, "React"));
+        when(builds.analyzePosting("text", "p3")).thenThrow(new IllegalStateException("분석기 오류"));
+        when(builds.analyzePosting("text", "p4")).thenReturn(posting(null, "Java"));
+
+        Map<String, Object> res = batch.run(req(5), EMAIL);
+
+        assertEquals(3, res.get("succeeded"));
+        assertEquals(2, res.get("failed"));
+        List<Map<String, Object>> items = items(res);
+        assertEquals(List.of(0, 1, 2, 3, 4), items.stream().map(i -> i.get("index")).toList());
+        assertEquals(List.of("ok", "failed", "ok", "failed", "ok"), items.stream().map(i -> i.get("status")).toList());
+        assertEquals(422, items.get(1).get("httpStatus"));
+        assertEquals("공고 섹션 없음", items.get(1).get("error"));
+        assertEquals(500, items.get(3).get("httpStatus"));
+        assertEquals("분석기 오류", items.get(3).get("error"));
+
+        // INSERT 행 b 번 = 성공 항목 b 번 (id 1000 + b)
+        assertEquals(List.of("공고 0", "공고 2", "공고 4"), jdbc.titles());
+        assertEquals(Arrays.asList(100L, 102L, null), jdbc.postingIds());
+        assertEquals(1000L, items.get(0).get("id"));
+        assertEquals(1001L, items.get(2).get("id"));
+        assertEquals(1002L, items.get(4).get("id"));
+        for (int i : new int[] { 0, 2, 4 }) {
+            assertEquals("공고 " + i, ((PortfolioDocument) items.get(i).get("data")).title());
+        }
+        assertEquals(List.of("Kafka", "Java", "React"),
+                ((PortfolioDocument) items.get(0).get("data")).skills().stream().map(PortfolioDocument.Skill::name).toList());
+    }
+
+    @Test
+    void saturatedPoolFailsOnlyTheRejectedItemsWith503() {
+        // 스레드 1개 + 대기열 1칸: 0 번이 도는 동안 1 번은 대기, 2·3 번은 거절
+        batch = batch(1, 1, 10, Duration.ofSeconds(10));
+        when(builds.analyzePosting(anyString(), anyString())).thenAnswer(inv -> {
+            if ("p0".equals(inv.getArgument(1))) Thread.sleep(300);
+            return posting(null, "Kafka");
+        });
+
+        Map<String, Object> res = batch.run(req(4), EMAIL);
+
+        List<Map<String, Object>> items = items(res);
+        assertEquals(List.of("ok", "ok", "failed", "failed"), items.stream().map(i -> i.get("status")).toList());
+        assertEquals(503, items.get(2).get("httpStatus"));
+        assertEquals(503, items.get(3).get("httpStatus"));
+        assertEquals(List.of("공고 0", "공고 1"), jdbc.titles());
+        assertEquals(1001L, items.get(1).get("id"));
+    }
+
+    @Test
+    void deadlineFailsOnlyTheSlowItemWith504() {
+        batch = batch(4, 16, 10, Duration.ofMillis(300));
+        when(builds.analyzePosting(anyString(), anyString())).thenAnswer(inv -> {
+            if ("p1".equals(inv.getArgument(1))) Thread.sleep(5_000);
+            return posting(null, "Kafka");
+        });
+
+        long start = System.nanoTime();
+        Map<String, Object> res = batch.run(req(3), EMAIL);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        List<Map<String, Object>> items = items(res);
+        assertEquals(List.of("ok", "failed", "ok"), items.stream().map(i -> i.get("status")).toList());
+        assertEquals(504, items.get(1).get("httpStatus"));
+        assertEquals(1001L, items.get(2).get("id"));
+        assertTrue(elapsedMs < 3_000, "데드라인 뒤에도 느린 항목을 기다림: " + elapsedMs + "ms");
+    }
+
+    @Test
+    void tooManyItemsIs400() {
+        batch = batch(4, 16, 2, Duration.ofSeconds(10));
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> batch.run(req(3), EMAIL));
+
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        assertThrows(ResponseStatusException.class, () -> batch.run(req(0), EMAIL));
+        verifyNoInteractions(builds, pipeline);
+        assertEquals(0, jdbc.rows.size());
+    }
+
+    private RemodelBatchService batch(int concurrency, int queueCapacity, int maxItems, Duration deadline) {
+        return new RemodelBatchService(builds, pipeline, assembler, materializer, termStats, om, jdbc,
+                mock(PlatformTransactionManager.class), meters, concurrency, queueCapacity, maxItems, deadline);
+    }
+
+    private static BatchRemodelReq req(int n) {
+        List<BatchRemodelReq.Posting> postings = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            BatchRemodelReq.Posting p = new BatchRemodelReq.Posting();
+            p.setSourceType("text");
+            p.setTitle("공고 " + i);
+            p.setValue("p" + i);
+            postings.add(p);
+        }
+        BatchRemodelReq req = new BatchRemodelReq();
+        req.setBasePortfolioId(BASE_ID);
+        req.setPostings(postings);
+        return req;
+    }
+
+    private static StoredPosting posting(Long id, String term) {
+        return new StoredPosting(id, new PostingAnalysis(new JobReqPref(List.of(term + " 경험"), List.of()),
+                List.of(new Keyword(term, 0.9, Keyword.Kind.TECH))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> items(Map<String, Object> res) {
+        return (List<Map<String, Object>>) res.get("items");
+    }
+
+    /** 배치 INSERT 대신: 행마다 파라미터를 모으고 id 를 1000 부터 차례로 돌려준다 */
+    private final class FakeInsert extends JdbcTemplate {
+        final List<Map<Integer, Object>> rows = new ArrayList<>();
+
+        @Override
+        public int[] batchUpdate(PreparedStatementCreator psc, BatchPreparedStatementSetter pss, KeyHolder keys) {
+            int[] counts = new int[pss.getBatchSize()];
+            for (int i = 0; i < counts.length; i++) {
+                Map<Integer, Object> params = new HashMap<>();
+                PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                            if (method.getName().startsWith("set") && args != null && args.length >= 2) {
+                                params.put((Integer) args[0], method.getName().equals("setNull") ? null : args[1]);
+                            }
+                            return null;
+                        });
+                try {
+                    pss.setValues(ps, i);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                rows.add(params);
+                keys.getKeyList().add(Map.of("id", 1000L + i));
+                counts[i] = 1;
+            }
+            return counts;
+        }
+
+        List<String> titles() {
+            return rows.stream().map(r -> {
+                try {
+                    return om.readValue((String) r.get(3), RemodelAssembler.Overlay.class).title();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).toList();
+        }
+
+        List<Long> postingIds() {
+            return rows.stream().map(r -> (Long) r.get(5)).toList();
+        }
+    }
+}
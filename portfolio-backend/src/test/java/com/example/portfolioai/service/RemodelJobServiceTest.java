@@ -0,0 +1,181 @@
+// src/test/java/com/example/portfolioai/service/RemodelJobServiceTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.portfolioai.dto.BuildRemodelReq;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RemodelJobService 를 Mockito RemodelPipeline 으로 확인한다.
+ * 풀/대기열이 가득 차 거절된 작업은 503 이고 남지 않으며, 끝난 작업을 구독하면 status 뒤에 done/error 를 다시 보내고 닫는다.
+ * 끝난 지 retain-for 가 지난 작업은 다음 등록 때 정리되고 (404), 아직 도는 작업은 남는다.
+ * SSE 본문은 MockMvc 로 SseEmitter 를 실제 응답에 써서 본다.
+ */
+class RemodelJobServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final MeterRegistry meters = new SimpleMeterRegistry();
+    private final RemodelPipeline pipeline = mock(RemodelPipeline.class);
+    private RemodelJobService jobs;
+
+    @AfterEach
+    void tearDown() {
+        if (jobs != null) jobs.destroy();
+    }
+
+    @Test
+    void rejectedSubmitIs503AndIsNotRetained() throws Exception {
+        // 스레드 1개 + 대기열 1칸: 첫 작업이 돌고 두 번째가 대기하면 세 번째는 거절
+        jobs = new RemodelJobService(pipeline, meters, 1, 1, Duration.ofMinutes(10), Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        when(pipeline.run(any(), anyString(), any())).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of("id", 42L);
+        });
+        RemodelJobService.RemodelJob running = jobs.submit(new BuildRemodelReq(), EMAIL);
+        RemodelJobService.RemodelJob queued = jobs.submit(new BuildRemodelReq(), EMAIL);
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(jobs, "executor");
+        awaitTrue(() -> executor.getActiveCount() == 1 && executor.getQueue().size() == 1, "풀이 차지 않음");
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> jobs.submit(new BuildRemodelReq(), EMAIL));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatusCode());
+        assertEquals(2.0, meters.get("remodel.jobs.retained").gauge().value(), "거절된 작업이 남음");
+        assertSame(running, jobs.get(running.getId(), EMAIL));
+        assertSame(queued, jobs.get(queued.getId(), EMAIL));
+
+        // 먼저 받은 작업은 거절에 영향받지 않는다
+        release.countDown();
+        awaitTrue(() -> running.isFinished() && queued.isFinished(), "작업이 끝나지 않음");
+        assertEquals("DONE", queued.snapshot().get("status"));
+    }
+
+    @Test
+    void subscribeAfterDoneReplaysTheTerminalStatus() throws Exception {
+        jobs = new RemodelJobService(pipeline, meters, 2, 4, Duration.ofMinutes(10), Duration.ofSeconds(10));
+        when(pipeline.run(any(), anyString(), any())).thenAnswer(inv -> {
+            inv.<RemodelProgress>getArgument(2).on(RemodelProgress.Stage.SAVED);
+            return Map.of("id", 42L);
+        });
+        RemodelJobService.RemodelJob job = jobs.submit(new BuildRemodelReq(), EMAIL);
+        awaitTrue(job::isFinished, "작업이 끝나지 않음");
+
+        String body = events(job);
+
+        assertEquals(List.of("status", "done"), eventNames(body));
+        assertTrue(body.contains("\"status\":\"DONE\"") && body.contains("\"stage\":\"SAVED\""), body);
+        assertTrue(body.contains("\"result\":{\"id\":42}"), body);
+    }
+
+    @Test
+    void subscribeAfterFailureReplaysTheError() throws Exception {
+        jobs = new RemodelJobService(pipeline, meters, 2, 4, Duration.ofMinutes(10), Duration.ofSeconds(10));
+        when(pipeline.run(any(), anyString(), any()))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "기본 포트폴리오 없음"));
+        RemodelJobService.RemodelJob job = jobs.submit(new BuildRemodelReq(), EMAIL);
+        awaitTrue(job::isFinished, "작업이 끝나지 않음");
+
+        String body = events(job);
+
+        assertEquals(List.of("status", "error"), eventNames(body));
+        assertTrue(body.contains("\"status\":\"FAILED\"") && body.contains("\"error\":\"기본 포트폴리오 없음\""), body);
+    }
+
+    @Test
+    void finishedJobsAreEvictedAfterRetainForButRunningOnesStay() throws Exception {
+        jobs = new RemodelJobService(pipeline, meters, 2, 4, Duration.ofMillis(500), Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        when(pipeline.run(any(), anyString(), any()))
+                .thenReturn(Map.of("id", 42L))
+                .thenAnswer(inv -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return Map.of("id", 43L);
+                })
+                .thenReturn(Map.of("id", 44L));
+        RemodelJobService.RemodelJob done = jobs.submit(new BuildRemodelReq(), EMAIL);
+        awaitTrue(done::isFinished, "작업이 끝나지 않음");
+        RemodelJobService.RemodelJob running = jobs.submit(new BuildRemodelReq(), EMAIL);
+        Thread.sleep(700);
+
+        // 정리는 등록할 때 돈다
+        assertSame(done, jobs.get(done.getId(), EMAIL));
+        jobs.submit(new BuildRemodelReq(), EMAIL);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> jobs.get(done.getId(), EMAIL));
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
+        assertFalse(running.isFinished());
+        assertSame(running, jobs.get(running.getId(), EMAIL));
+        release.countDown();
+    }
+
+    /** 작업 구독을 MockMvc 로 실제 응답에 써서 SSE 본문을 돌려준다 */
+    private String events(RemodelJobService.RemodelJob job) throws Exception {
+        MvcResult result = MockMvcBuilders.standaloneSetup(new Events(jobs, job)).build()
+                .perform(get("/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5_000);
+        return result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> eventNames(String body) {
+        return body.lines().filter(l -> l.startsWith("event:")).map(l -> l.substring("event:".length()).trim()).toList();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition, String message) throws InterruptedException {
+        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < until) Thread.sleep(5);
+        assertTrue(condition.getAsBoolean(), message);
+    }
+
+    @RestController
+    static final class Events {
+        private final RemodelJobService jobs;
+        private final RemodelJobService.RemodelJob job;
+
+        Events(RemodelJobService jobs, RemodelJobService.RemodelJob job) {
+            this.jobs = jobs;
+            this.job = job;
+        }
+
+        @GetMapping("/events")
+        SseEmitter events() {
+            return jobs.subscribe(job);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+// src/test/java/com/example/portfolioai/service/RemodelMaterializerTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.example.portfolioai.portfolio.PortfolioEntity;
+import com.example.portfolioai.portfolio.PortfolioRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RemodelMaterializer 를 Mockito PortfolioRepository(메모리 행) 위에서 확인한다.
+ * overlay 왕복(toOverlay → 저장 → fromOverlay), staleSections, 항목 추가/삭제로 순열이 깨진 섹션의 재정렬,
+ * 기본 포트폴리오 updatedAt 이 바뀌면 캐시된 View 를 다시 만드는지.
+ */
+class RemodelMaterializerTest {
+
+    private static final long BASE_ID = 1L;
+    private static final long REMODEL_ID = 2L;
+    private static final Instant T0 = Instant.parse("2026-10-01T00:00:00Z");
+
+    private static final String BASE_JSON = """
+            {"name":"홍길동","role":"백엔드",
+             "skills":["Java","Kafka","React"],
+             "projects":[{"title":"주문 서버","techs":["Spring Boot"]},
+                         {"title":"정산 배치","techs":["Kafka"]},
+                         {"title":"웹 프론트","techs":["React"]}],
+             "awards":[{"title":"해커톤 대상"},{"title":"우수 사원"}]}
+            """;
+
+    private static final List<Keyword> KEYWORDS = List.of(
+            new Keyword("Kafka", 0.9, Keyword.Kind.TECH),
+            new Keyword("React", 0.5, Keyword.Kind.TECH));
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final MeterRegistry meters = new SimpleMeterRegistry();
+    private final PortfolioRepository repo = mock(PortfolioRepository.class);
+    private final Map<Long, PortfolioEntity> rows = new HashMap<>();
+
+    private RemodelAssembler assembler;
+    private RemodelMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        PostingTermStats termStats = new PostingTermStats(null, om, meters, "weighted", 1.2, 0.75, 20, 1024, "substring", 0.5f);
+        assembler = new RemodelAssembler(om, termStats);
+        materializer = new RemodelMaterializer(assembler, repo, om, meters, 64);
+        when(repo.findById(anyLong())).thenAnswer(inv -> Optional.ofNullable(rows.get(inv.<Long>getArgument(0))));
+        when(repo.findAllById(any())).thenAnswer(inv -> {
+            List<PortfolioEntity> out = new ArrayList<>();
+            for (Long id : inv.<Iterable<Long>>getArgument(0)) if (rows.containsKey(id)) out.add(rows.get(id));
+            return out;
+        });
+        put(BASE_ID, PortfolioEntity.Kind.BASIC, BASE_JSON, null, null, null);
+    }
+
+    @Test
+    void overlayRoundTrip() throws Exception {
+        PortfolioEntity base = rows.get(BASE_ID);
+        RemodelMaterializer.View baseView = materializer.view(base);
+        Map<String, int[]> orders = assembler.orders(baseView, KEYWORDS, RemodelAssembler.ORDERED_SECTIONS, RankingKernel.Matcher.SUBSTRING);
+        PortfolioEntity remodel = putRemodel(orders, materializer.hashes(baseView));
+
+        assertTrue(materializer.isOverlay(remodel));
+        assertTrue(remodel.getDataJson().startsWith("{\"$overlay\":1"), remodel.getDataJson());
+        PortfolioDocument doc = materializer.read(remodel);
+
+        assertEquals(List.of("Kafka", "React", "Java"), skillNames(doc));
+        assertEquals(List.of("정산 배치", "웹 프론트", "주문 서버"), projectTitles(doc));
+        assertEquals("리모델", doc.title());
+        assertEquals("홍길동", doc.name());
+        // overlay 에 적힌 순서가 그대로 돌아온다
+        RemodelAssembler.Overlay stored = om.readValue(remodel.getDataJson(), RemodelAssembler.Overlay.class);
+        assertArrayEquals(orders.get("projects"), assembler.overlayOrders(stored, baseView.doc()).get("projects"));
+        // 항목 객체는 기본 포트폴리오 View 와 공유
+        assertSame(baseView.doc().projects().get(1), doc.projects().get(0));
+        assertEquals(RankingKernel.Matcher.SUBSTRING, materializer.matcher(remodel));
+    }
+
+    @Test
+    void staleSectionsComparesStoredHashes() throws Exception {
+        Map<String, String> current = assembler.sectionHashes(om.readValue(BASE_JSON, PortfolioDocument.class));
+        Map<String, String> stored = new HashMap<>(current);
+        stored.put("skills", "예전 해시");
+        stored.remove("awards");
+
+        assertEquals(Set.of("skills", "awards"), materializer.staleSections(om.writeValueAsString(stored), current));
+        assertEquals(Set.of(), materializer.staleSections(om.writeValueAsString(current), current));
+        assertEquals(current.keySet(), materializer.staleSections(null, current));
+    }
+
+    @Test
+    void brokenPermutationFallsBackToKeywordOrder() throws Exception {
+        RemodelMaterializer.View baseView = materializer.view(rows.get(BASE_ID));
+        // 키워드 순서와 다른 순열을 저장해 둔다
+        PortfolioEntity remodel = putRemodel(Map.of("skills", new int[] { 2, 0, 1 }, "projects", new int[] { 2, 0, 1 }),
+                materializer.hashes(baseView));
+
+        assertEquals(List.of("React", "Java", "Kafka"), skillNames(materializer.read(remodel)));
+
+        // 기본에 프로젝트 하나 추가, 스킬 하나 삭제 → 두 섹션 모두 순열이 깨져 키워드로 다시 정렬
+        editBase(BASE_JSON
+                .replace("\"skills\":[\"Java\",\"Kafka\",\"React\"]", "\"skills\":[\"Java\",\"React\"]")
+                .replace("{\"title\":\"웹 프론트\",\"techs\":[\"React\"]}",
+                        "{\"title\":\"웹 프론트\",\"techs\":[\"React\"]},{\"title\":\"스트림 처리\",\"techs\":[\"Kafka\",\"React\"]}"));
+        PortfolioDocument doc = materializer.read(remodel);
+
+        assertEquals(List.of("React", "Java"), skillNames(doc));
+        assertEquals(List.of("스트림 처리", "정산 배치", "웹 프론트", "주문 서버"), projectTitles(doc));
+    }
+
+    @Test
+    void brokenPermutationWithoutKeywordsKeepsBaseOrder() throws Exception {
+        RemodelMaterializer.View baseView = materializer.view(rows.get(BASE_ID));
+        PortfolioEntity remodel = putRemodel(Map.of("awards", new int[] { 1, 0 }), materializer.hashes(baseView));
+        remodel.setKeywordsJson(null);
+        assertEquals(List.of("우수 사원", "해커톤 대상"), awardTitles(materializer.read(remodel)));
+
+        editBase(BASE_JSON.replace("{\"title\":\"우수 사원\"}", "{\"title\":\"우수 사원\"},{\"title\":\"특허\"}"));
+
+        assertEquals(List.of("해커톤 대상", "우수 사원", "특허"), awardTitles(materializer.read(remodel)));
+    }
+
+    @Test
+    void cacheInvalidatedWhenBaseUpdatedAtChanges() throws Exception {
+        RemodelMaterializer.View baseView = materializer.view(rows.get(BASE_ID));
+        PortfolioEntity remodel = putRemodel(Map.of("skills", new int[] { 2, 0, 1 }), materializer.hashes(baseView));
+
+        RemodelMaterializer.View first = materializer.view(remodel);
+        double misses = meters.counter("portfolio.view.cache", "result", "miss").count();
+        assertSame(first, materializer.view(remodel));
+        assertEquals(misses, meters.counter("portfolio.view.cache", "result", "miss").count());
+
+        // 리모델 행은 그대로, 기본의 이름만 수정됨 → 리모델 View 도 다시 만든다 (스킬 순열은 그대로)
+        editBase(BASE_JSON.replace("홍길동", "김철수"));
+        RemodelMaterializer.View second = materializer.view(remodel);
+
+        assertNotSame(first, second);
+        assertEquals(misses + 2, meters.counter("portfolio.view.cache", "result", "miss").count()); // 기본, 리모델
+        assertEquals("김철수", second.doc().name());
+        assertEquals(List.of("React", "Java", "Kafka"), skillNames(second.doc()));
+        assertSame(second, materializer.views(List.of(remodel)).get(0));
+    }
+
+    private PortfolioEntity putRemodel(Map<String, int[]> orders, Map<String, String> baseHashes) throws Exception {
+        String overlay = om.writeValueAsString(assembler.toOverlay(orders, "리모델", RankingKernel.Matcher.SUBSTRING));
+        return put(REMODEL_ID, PortfolioEntity.Kind.REMODEL, overlay, BASE_ID,
+                om.writeValueAsString(baseHashes), om.writeValueAsString(KEYWORDS));
+    }
+
+    private void editBase(String json) {
+        PortfolioEntity base = rows.get(BASE_ID);
+        base.setDataJson(json);
+        base.setUpdatedAt(base.getUpdatedAt().plusSeconds(1));
+    }
+
+    private PortfolioEntity put(long id, PortfolioEntity.Kind kind, String dataJson, Long baseId, String hashes, String keywords) {
+        PortfolioEntity e = new PortfolioEntity();
+        ReflectionTestUtils.setField(e, "id", id);
+        e.setOwnerEmail("user@example.com");
+        e.setKind(kind);
+        e.setDataJson(dataJson);
+        e.setUpdatedAt(T0);
+        e.setBasePortfolioId(baseId);
+        e.setBaseSectionHashes(hashes);
+        e.setKeywordsJson(keywords);
+        rows.put(id, e);
+        return e;
+    }
+
+    private static List<String> skillNames(PortfolioDocument doc) {
+        return doc.skills().stream().map(PortfolioDocument.Skill::name).toList();
+    }
+
+    private static List<String> projectTitles(PortfolioDocument doc) {
+        return doc.projects().stream().map(PortfolioDocument.Project::title).toList();
+    }
+
+    private static List<String> awardTitles(PortfolioDocument doc) {
+        return doc.awards().stream().map(PortfolioDocument.Award::title).toList();
+    }
+}
@@ -0,0 +1,227 @@
+// src/test/java/com/example/portfolioai/service/RemodelRefreshServiceTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.portfolioai.dto.Keyword;
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.example.portfolioai.portfolio.PortfolioEntity;
+import com.example.portfolioai.portfolio.PortfolioRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RemodelRefreshService: 메모리 표(FakeTable)와 Mockito PortfolioRepository 로 확인한다.
+ * 기본 포트폴리오 연속 수정은 debounce 로 한 번, 바뀐 섹션만 다시 정렬하고 나머지 섹션은 저장된 순열 그대로,
+ * 읽은 뒤 사용자가 리모델을 고쳤으면(updated_at 변경) 조건부 UPDATE 가 0행이라 덮어쓰지 않는다.
+ */
+class RemodelRefreshServiceTest {
+
+    private static final long BASE_ID = 1L;
+    private static final long REMODEL_ID = 2L;
+    private static final Instant READ_AT = Instant.parse("2026-10-01T00:00:00.123456Z");
+
+    private static final String BASE_JSON = """
+            {"name":"홍길동","skills":["Java","Kafka","React"],
+             "projects":[{"title":"주문 서버","techs":["Spring Boot"]},
+                         {"title":"정산 배치","techs":["Kafka"]},
+                         {"title":"웹 프론트","techs":["React"]}]}
+            """;
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final MeterRegistry meters = new SimpleMeterRegistry();
+    private final PortfolioRepository repo = mock(PortfolioRepository.class);
+    private final PortfolioFeatureIndex featureIndex = mock(PortfolioFeatureIndex.class);
+    private final FakeTable table = new FakeTable();
+
+    private RemodelAssembler assembler;
+    private RemodelRefreshService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PostingTermStats termStats = new PostingTermStats(null, om, meters, "weighted", 1.2, 0.75, 20, 1024, "substring", 0.5f);
+        assembler = new RemodelAssembler(om, termStats);
+        RemodelMaterializer materializer = new RemodelMaterializer(assembler, repo, om, meters, 64);
+        service = new RemodelRefreshService(assembler, materializer, repo, featureIndex, table,
+                mock(PlatformTransactionManager.class), om, meters, Duration.ofMillis(200));
+
+        PortfolioDocument base = om.readValue(BASE_JSON, PortfolioDocument.class);
+        // 키워드대로라면 skills [1, 2, 0], projects [1, 2, 0] 이 될 순서를 일부러 다르게 저장해 둔다
+        String overlay = om.writeValueAsString(assembler.toOverlay(
+                Map.of("skills", new int[] { 2, 0, 1 }, "projects", new int[] { 0, 1, 2 }), "리모델", RankingKernel.Matcher.SUBSTRING));
+        table.put(entity(BASE_ID, PortfolioEntity.Kind.BASIC, BASE_JSON, READ_AT, null, null, null));
+        table.put(entity(REMODEL_ID, PortfolioEntity.Kind.REMODEL, overlay, READ_AT, BASE_ID,
+                om.writeValueAsString(assembler.sectionHashes(base)),
+                om.writeValueAsString(List.of(new Keyword("Kafka", 0.9, Keyword.Kind.TECH), new Keyword("React", 0.5, Keyword.Kind.TECH)))));
+
+        // JPA 처럼 읽을 때마다 행의 복사본을 돌려준다
+        when(repo.findById(anyLong())).thenAnswer(inv -> Optional.ofNullable(table.copy(inv.getArgument(0))));
+        when(repo.findByBasePortfolioIdAndKind(BASE_ID, PortfolioEntity.Kind.REMODEL))
+                .thenAnswer(inv -> List.of(table.copy(REMODEL_ID)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void onlyChangedSectionsAreReordered() throws Exception {
+        editBase("{\"title\":\"주문 서버\",\"techs\":[\"Spring Boot\"]}", "{\"title\":\"주문 서버 개편\",\"techs\":[\"Spring Boot\"]}");
+
+        assertEquals(1, service.refresh(BASE_ID));
+
+        PortfolioEntity row = table.rows.get(REMODEL_ID);
+        RemodelAssembler.Overlay written = om.readValue(row.getDataJson(), RemodelAssembler.Overlay.class);
+        assertArrayEquals(new int[] { 2, 0, 1 }, written.order().get("skills"), "바뀌지 않은 섹션의 순열이 바뀜");
+        assertArrayEquals(new int[] { 1, 2, 0 }, written.order().get("projects"));
+        assertEquals("리모델", written.title());
+        assertEquals(om.writeValueAsString(assembler.sectionHashes(om.readValue(table.rows.get(BASE_ID).getDataJson(), PortfolioDocument.class))),
+                row.getBaseSectionHashes());
+
+        // 조건은 읽은 updated_at 그대로, 새 updated_at 은 DB 정밀도(마이크로초)로 잘라서 쓴다
+        Object[] args = table.updates.get(0);
+        assertEquals(READ_AT, ((OffsetDateTime) args[4]).toInstant());
+        Instant now = ((OffsetDateTime) args[2]).toInstant();
+        assertEquals(now.truncatedTo(ChronoUnit.MICROS), now);
+        assertEquals(now, row.getUpdatedAt());
+        verify(featureIndex).update(any(PortfolioEntity.class));
+        assertEquals(1, meters.counter("remodel.refresh.remodels", "result", "updated").count());
+    }
+
+    @Test
+    void userEditedRemodelIsNotOverwritten() throws Exception {
+        String userJson = "{\"name\":\"사용자가 직접 고친 리모델\"}";
+        // 기본 수정과 같은 때 사용자가 리모델을 고침: 리프레시가 리모델을 읽은 직후, UPDATE 전에 저장된다
+        when(repo.findByBasePortfolioIdAndKind(BASE_ID, PortfolioEntity.Kind.REMODEL)).thenAnswer(inv -> {
+            List<PortfolioEntity> snapshot = List.of(table.copy(REMODEL_ID));
+            PortfolioEntity row = table.rows.get(REMODEL_ID);
+            row.setDataJson(userJson);
+            row.setUpdatedAt(READ_AT.plusMillis(1));
+            return snapshot;
+        });
+        editBase("\"Java\"", "\"Kotlin\"");
+
+        assertEquals(0, service.refresh(BASE_ID));
+
+        PortfolioEntity row = table.rows.get(REMODEL_ID);
+        assertEquals(userJson, row.getDataJson());
+        assertEquals(READ_AT.plusMillis(1), row.getUpdatedAt());
+        assertEquals(1, table.updates.size());
+        verify(featureIndex, never()).update(any(PortfolioEntity.class));
+        assertEquals(1, meters.counter("remodel.refresh.remodels", "result", "conflict").count());
+    }
+
+    @Test
+    void unchangedBaseWritesNothing() {
+        assertEquals(0, service.refresh(BASE_ID));
+
+        assertEquals(0, table.updates.size());
+        assertEquals(1, meters.counter("remodel.refresh.remodels", "result", "unchanged").count());
+    }
+
+    @Test
+    void scheduleCoalescesEditsWithinDebounce() throws Exception {
+        editBase("\"Java\"", "\"Kotlin\"");
+
+        for (int i = 0; i < 5; i++) {
+            service.baseChanged(BASE_ID);
+            Thread.sleep(20);
+        }
+
+        verify(repo, timeout(2_000).times(1)).findById(eq(BASE_ID));
+        Thread.sleep(400);
+        verify(repo, times(1)).findById(eq(BASE_ID));
+        assertEquals(1, table.updates.size());
+        assertEquals(1, meters.timer("remodel.refresh").count());
+
+        // debounce 가 지난 뒤의 수정은 새로 갱신한다
+        service.baseChanged(BASE_ID);
+        verify(repo, timeout(2_000).times(2)).findById(eq(BASE_ID));
+    }
+
+    private void editBase(String from, String to) {
+        PortfolioEntity base = table.rows.get(BASE_ID);
+        String edited = base.getDataJson().replace(from, to);
+        assertNotEquals(base.getDataJson(), edited);
+        base.setDataJson(edited);
+        base.setUpdatedAt(base.getUpdatedAt().plusSeconds(1));
+    }
+
+    private static PortfolioEntity entity(long id, PortfolioEntity.Kind kind, String dataJson, Instant updatedAt,
+                                          Long baseId, String hashes, String keywords) {
+        PortfolioEntity e = new PortfolioEntity();
+        ReflectionTestUtils.setField(e, "id", id);
+        e.setOwnerEmail("user@example.com");
+        e.setKind(kind);
+        e.setDataJson(dataJson);
+        e.setUpdatedAt(updatedAt);
+        e.setBasePortfolioId(baseId);
+        e.setBaseSectionHashes(hashes);
+        e.setKeywordsJson(keywords);
+        return e;
+    }
+
+    /** portfolio 표 대신: UPDATE_REFRESHED 의 조건(id, updated_at, base_portfolio_id)을 그대로 따진다 */
+    private static final class FakeTable extends JdbcTemplate {
+        final Map<Long, PortfolioEntity> rows = new ConcurrentHashMap<>();
+        final List<Object[]> updates = new ArrayList<>();
+
+        void put(PortfolioEntity e) {
+            rows.put(e.getId(), e);
+        }
+
+        PortfolioEntity copy(Long id) {
+            PortfolioEntity r = rows.get(id);
+            if (r == null) return null;
+            return entity(r.getId(), r.getKind(), r.getDataJson(), r.getUpdatedAt(), r.getBasePortfolioId(),
+                    r.getBaseSectionHashes(), r.getKeywordsJson());
+        }
+
+        @Override
+        public synchronized int update(String sql, Object... args) {
+            updates.add(args);
+            PortfolioEntity row = rows.get((Long) args[3]);
+            if (row == null
+                    || !row.getUpdatedAt().equals(((OffsetDateTime) args[4]).toInstant())
+                    || !Objects.equals(row.getBasePortfolioId(), args[5])) {
+                return 0;
+            }
+            row.setDataJson((String) args[0]);
+            row.setBaseSectionHashes((String) args[1]);
+            row.setUpdatedAt(((OffsetDateTime) args[2]).toInstant());
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+// src/test/java/com/example/portfolioai/service/RemodelStagesBenchmarkTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.portfolioai.dto.PortfolioDocument;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 스텁 채용 사이트에서 리모델 앞단 두 단계(기본 포트폴리오 로드/파싱, 공고 다운로드)를 순서대로 vs RemodelStages.both 로 돌린 p50/p99,
+ * 그리고 한 단계 실패/데드라인 때 얼마 만에 돌아오고 느린 크롤링이 끊기는지.
+ * 평소 테스트에서는 돌지 않는다: mvn -B test -Dtest=RemodelStagesBenchmarkTest -Dbenchmark=true
+ * 공고 서버 응답 80-140ms, 기본 포트폴리오 로드는 40-60ms 대기 + 실제 JSON 파싱.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RemodelStagesBenchmarkTest {
+
+    private static final int WARMUP = 20;
+    private static final int RUNS = 100;
+
+    private static final ObjectMapper OM = new ObjectMapper();
+
+    private static HttpServer server;
+    private static HttpClient client;
+    private static String baseUrl;
+    private static byte[] portfolioJson;
+
+    @BeforeAll
+    static void start() throws IOException {
+        // 헤더와 본문이 따로 나가면 Nagle + 지연 ACK 로 요청마다 ~40ms 가 더해진다 (HttpServer 를 처음 만들기 전에만 먹힌다)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "stub-board");
+            t.setDaemon(true);
+            return t;
+        }));
+        byte[] page = ("<html><body><h2>자격요건</h2><ul><li>Java, Spring Boot 3년 이상</li></ul>"
+                + "<h2>우대사항</h2><ul><li>Kafka 운영 경험</li></ul></body></html>").getBytes(StandardCharsets.UTF_8);
+        server.createContext("/jobs", ex -> {
+            String q = ex.getRequestURI().getQuery();
+            sleep(q != null && q.contains("slow") ? 5_000 : ThreadLocalRandom.current().nextInt(80, 141));
+            ex.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            ex.sendResponseHeaders(200, page.length);
+            try (OutputStream out = ex.getResponseBody()) {
+                out.write(page);
+            } catch (IOException e) {
+                // 클라이언트가 먼저 끊음 (취소)
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/jobs";
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        List<Map<String, Object>> projects = new ArrayList<>();
+        for (int p = 0; p < 10; p++) {
+            projects.add(Map.of("title", "프로젝트 " + p, "description", "대용량 트래픽을 처리하는 주문 서버를 설계하고 운영했습니다",
+                    "techs", List.of("Java", "Spring Boot", "Kafka")));
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("name", "홍길동");
+        data.put("skills", List.of("Java", "Spring Boot", "Kafka", "Redis", "Docker"));
+        data.put("projects", projects);
+        portfolioJson = OM.writeValueAsBytes(data);
+    }
+
+    @AfterAll
+    static void stop() {
+        server.stop(0);
+    }
+
+    @Test
+    void sequentialVersusConcurrent() throws Exception {
+        RemodelStages stages = new RemodelStages(new SimpleMeterRegistry(), 8, 16, Duration.ofSeconds(10));
+        try {
+            for (int i = 0; i < WARMUP; i++) {
+                sequential();
+                stages.both(RemodelStagesBenchmarkTest::loadBase, () -> fetch(baseUrl));
+            }
+            double[] seq = new double[RUNS];
+            double[] conc = new double[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                long start = System.nanoTime();
+                sequential();
+                seq[i] = (System.nanoTime() - start) / 1e6;
+                start = System.nanoTime();
+                stages.both(RemodelStagesBenchmarkTest::loadBase, () -> fetch(baseUrl));
+                conc[i] = (System.nanoTime() - start) / 1e6;
+            }
+            System.out.printf("sequential ms: p50 %.0f, p99 %.0f%n", percentile(seq, 50), percentile(seq, 99));
+            System.out.printf("concurrent ms: p50 %.0f, p99 %.0f%n", percentile(conc, 50), percentile(conc, 99));
+            assertTrue(percentile(conc, 50) < percentile(seq, 50), "동시 실행이 순서대로보다 느림");
+        } finally {
+            stages.destroy();
+        }
+    }
+
+    @Test
+    void cancellationOnFailureAndDeadline() {
+        RemodelStages stages = new RemodelStages(new SimpleMeterRegistry(), 8, 16, Duration.ofSeconds(10));
+        try {
+            AtomicBoolean crawlInterrupted = new AtomicBoolean();
+            long start = System.nanoTime();
+            assertThrows(IllegalStateException.class, () -> stages.both(
+                    () -> {
+                        Thread.sleep(100);
+                        throw new IllegalStateException("기본 포트폴리오 없음");
+                    },
+                    () -> fetchTracked(baseUrl + "?slow", crawlInterrupted)));
+            double failedMs = (System.nanoTime() - start) / 1e6;
+            await(crawlInterrupted);
+            System.out.printf("base failure: returned after %.0f ms, slow crawl interrupted = %s%n", failedMs, crawlInterrupted.get());
+
+            AtomicBoolean deadlineInterrupted = new AtomicBoolean();
+            start = System.nanoTime();
+            ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> stages.both(
+                    RemodelStagesBenchmarkTest::loadBase,
+                    () -> fetchTracked(baseUrl + "?slow", deadlineInterrupted),
+                    Duration.ofMillis(500)));
+            double deadlineMs = (System.nanoTime() - start) / 1e6;
+            await(deadlineInterrupted);
+            System.out.printf("deadline 500 ms: %s after %.0f ms, slow crawl interrupted = %s%n",
+                    e.getStatusCode(), deadlineMs, deadlineInterrupted.get());
+
+            assertEquals(HttpStatus.GATEWAY_TIMEOUT, e.getStatusCode());
+            assertTrue(crawlInterrupted.get() && deadlineInterrupted.get(), "느린 크롤링이 끊기지 않음");
+        } finally {
+            stages.destroy();
+        }
+    }
+
+    private static void sequential() throws Exception {
+        loadBase();
+        fetch(baseUrl);
+    }
+
+    /** DB 읽기 대신 40-60ms 대기 + 실제 파싱 */
+    private static PortfolioDocument loadBase() throws IOException {
+        sleep(ThreadLocalRandom.current().nextInt(40, 61));
+        return OM.readValue(portfolioJson, PortfolioDocument.class);
+    }
+
+    private static String fetch(String url) throws IOException {
+        return RemodelStages.interruptibly(() -> {
+            try {
+                return client.send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.ofString()).body();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("크롤링 취소");
+            }
+        });
+    }
+
+    private static String fetchTracked(String url, AtomicBoolean interrupted) throws IOException {
+        try {
+            return fetch(url);
+        } catch (InterruptedIOException e) {
+            interrupted.set(true);
+            throw e;
+        }
+    }
+
+    private static double percentile(double[] values, int p) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p / 100.0 * sorted.length) - 1)];
+    }
+
+    private static void await(AtomicBoolean flag) {
+        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!flag.get() && System.nanoTime() < until) Thread.onSpinWait();
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+// src/test/java/com/example/portfolioai/service/RemodelStagesTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RemodelStages 동작: 한 단계가 실패하면 다른 단계를 취소하고(interruptibly 구간만 인터럽트),
+ * 데드라인을 넘기면 504, 풀과 대기열이 가득 차면 호출 스레드에서 돌리지 않고 503.
+ */
+class RemodelStagesTest {
+
+    private final MeterRegistry meters = new SimpleMeterRegistry();
+    private RemodelStages stages;
+
+    @AfterEach
+    void tearDown() {
+        if (stages != null) stages.destroy();
+    }
+
+    @Test
+    void failureCancelsTheSiblingStage() {
+        stages = new RemodelStages(meters, 4, 4, Duration.ofSeconds(10));
+        IllegalStateException failure = new IllegalStateException("기본 포트폴리오 파싱 실패");
+        CountDownLatch crawling = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        long start = System.nanoTime();
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> stages.both(
+                () -> {
+                    crawling.await(5, TimeUnit.SECONDS);
+                    throw failure;
+                },
+                () -> RemodelStages.interruptibly(() -> {
+                    crawling.countDown();
+                    try {
+                        Thread.sleep(5_000); // 느린 공고 서버
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                        throw new InterruptedIOException("취소됨");
+                    }
+                    return "posting";
+                })));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertSame(failure, thrown);
+        assertTrue(elapsedMs < 2_000, "실패 후 다른 단계를 기다림: " + elapsedMs + "ms");
+        awaitTrue(interrupted, "크롤링 단계가 인터럽트되지 않음");
+        assertEquals(1, meters.timer("remodel.stages", "outcome", "failed").count());
+    }
+
+    @Test
+    void cancelledSiblingOutsideInterruptiblyIsNotInterrupted() throws Exception {
+        stages = new RemodelStages(meters, 4, 4, Duration.ofSeconds(10));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        assertThrows(IllegalStateException.class, () -> stages.both(
+                () -> {
+                    // JDBC 처럼 인터럽트로 끊으면 안 되는 구간
+                    loading.countDown();
+                    try {
+                        Thread.sleep(300);
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                    finished.countDown();
+                    return "base";
+                },
+                () -> {
+                    loading.await(5, TimeUnit.SECONDS);
+                    throw new IllegalStateException("공고 분석 실패");
+                }));
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertFalse(interrupted.get(), "interruptibly 밖의 단계가 인터럽트됨");
+    }
+
+    @Test
+    void deadlineReturns504() {
+        stages = new RemodelStages(meters, 4, 4, Duration.ofSeconds(10));
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        long start = System.nanoTime();
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> stages.both(
+                () -> "base",
+                () -> RemodelStages.interruptibly(() -> {
+                    try {
+                        Thread.sleep(5_000);
+                    } catch (InterruptedException ie) {
+                        interrupted.set(true);
+                        throw new InterruptedIOException("취소됨");
+                    }
+                    return "posting";
+                }),
+                Duration.ofMillis(200)));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, e.getStatusCode());
+        assertTrue(elapsedMs >= 200 && elapsedMs < 2_000, "데드라인: " + elapsedMs + "ms");
+        awaitTrue(interrupted, "데드라인 후 크롤링 단계가 인터럽트되지 않음");
+        assertEquals(1, meters.timer("remodel.stages", "outcome", "deadline").count());
+    }
+
+    @Test
+    void saturatedPoolReturns503() throws Exception {
+        // 스레드 1개 + 대기열 1칸: 먼저 들어온 both 하나가 둘 다 차지한다
+        stages = new RemodelStages(meters, 1, 1, Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<RemodelStages.Both<Boolean, String>> firstResult = new AtomicReference<>();
+        Thread first = new Thread(() -> firstResult.set(stages.both(
+                () -> release.await(5, TimeUnit.SECONDS),
+                () -> "queued")));
+        first.start();
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(stages, "executor");
+        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((executor.getActiveCount() < 1 || executor.getQueue().size() < 1) && System.nanoTime() < until) Thread.sleep(5);
+
+        AtomicBoolean ran = new AtomicBoolean();
+        String caller = Thread.currentThread().getName();
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> stages.both(
+                () -> ran.compareAndSet(false, caller.equals(Thread.currentThread().getName())),
+                () -> "second"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatusCode());
+        assertFalse(ran.get(), "거절된 단계가 호출 스레드에서 실행됨");
+        assertEquals(1, meters.timer("remodel.stages", "outcome", "rejected").count());
+
+        // 먼저 들어온 요청은 거절에 영향받지 않는다
+        release.countDown();
+        first.join(5_000);
+        assertEquals(new RemodelStages.Both<>(true, "queued"), firstResult.get());
+    }
+
+    private static void awaitTrue(AtomicBoolean flag, String message) {
+        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!flag.get() && System.nanoTime() < until) Thread.onSpinWait();
+        assertTrue(flag.get(), message);
+    }
+}
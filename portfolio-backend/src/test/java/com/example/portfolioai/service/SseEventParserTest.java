@@ -0,0 +1,108 @@
+// src/test/java/com/example/portfolioai/service/SseEventParserTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * SseEventParser 에 DefaultDataBufferFactory 버퍼를 나눠 넣어도 결과가 같아야 한다.
+ * 줄 끝(\r\n, \r, \n 섞임), 주석, 여러 줄 data, 한글(UTF-8 글자가 버퍼 경계에서 잘리는 경우), 빈 줄 없이 끝난 마지막 이벤트, 값 없는 data 필드.
+ */
+class SseEventParserTest {
+
+    private static final String STREAM = ": keep-alive\r\n"
+            + "event: response.output_text.delta\r"
+            + "data: {\"delta\":\"안녕하세요\"}\n"
+            + "data:두 번째 줄\r\n"
+            + "id: 1\n"
+            + "\r\n"
+            + "datax: 필드 이름이 다르다\n"
+            + "data: 마지막\r\r"
+            + "retry: 10\n"
+            + "data:  앞 공백은 하나만 뗀다\n"
+            + "\n"
+            + "data: 빈 줄 없이 끝난 이벤트\n";
+
+    private static final List<String> EXPECTED = List.of(
+            "{\"delta\":\"안녕하세요\"}\n두 번째 줄",
+            "마지막",
+            " 앞 공백은 하나만 뗀다");
+
+    private final DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+
+    @Test
+    void wholeStream() {
+        assertEquals(EXPECTED, parse(bytes(STREAM), new int[0]));
+    }
+
+    @Test
+    void everyThreeWaySplitGivesTheSameEvents() {
+        byte[] bytes = bytes(STREAM);
+        for (int i = 0; i <= bytes.length; i++) {
+            for (int j = i; j <= bytes.length; j++) {
+                assertEquals(EXPECTED, parse(bytes, new int[] { i, j }), "split at " + i + ", " + j);
+            }
+        }
+    }
+
+    @Test
+    void byteByByte() {
+        byte[] bytes = bytes(STREAM);
+        int[] cuts = new int[bytes.length - 1];
+        for (int i = 0; i < cuts.length; i++) cuts[i] = i + 1;
+        assertEquals(EXPECTED, parse(bytes, cuts));
+    }
+
+    @Test
+    void trailingEventWithoutBlankLineIsDropped() {
+        List<String> events = strings(SseEventParser.events(Flux.just(
+                buffer("data: 하나\n\n"), buffer("data: 둘\n"), buffer("data: 아직 안 끝남"))).collectList().block());
+
+        assertEquals(List.of("하나"), events);
+    }
+
+    @Test
+    void bareDataField() {
+        // 값 없는 data 는 빈 값 한 줄: 혼자면 빈 이벤트, 두 번이면 줄바꿈 하나
+        assertEquals(List.of("", "\n", "a\n"), parse(bytes("data\n\ndata\ndata\r\n\r\ndata:a\rdata\r\r"), new int[0]));
+    }
+
+    /** cuts 위치에서 버퍼를 나눠 한 파서에 차례로 넣는다 */
+    private List<String> parse(byte[] bytes, int[] cuts) {
+        SseEventParser parser = new SseEventParser();
+        List<byte[]> out = new ArrayList<>();
+        int from = 0;
+        for (int cut : cuts) {
+            out.addAll(parser.feed(buffer(Arrays.copyOfRange(bytes, from, cut))));
+            from = cut;
+        }
+        out.addAll(parser.feed(buffer(Arrays.copyOfRange(bytes, from, bytes.length))));
+        return strings(out);
+    }
+
+    private DataBuffer buffer(String s) {
+        return buffer(bytes(s));
+    }
+
+    private DataBuffer buffer(byte[] bytes) {
+        return factory.wrap(bytes);
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> strings(List<byte[]> events) {
+        return events.stream().map(e -> new String(e, StandardCharsets.UTF_8)).toList();
+    }
+}
@@ -0,0 +1,175 @@
+// src/test/java/com/example/portfolioai/service/StructuredPostingExtractorsTest.java
+package com.example.portfolioai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.portfolioai.dto.JobReqPref;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 저장해 둔 채용 사이트 HTML(postings/html)로 구조화 데이터 추출기를 확인한다.
+ * JSON-LD(사람인/잡코리아형), __NEXT_DATA__(원티드/점핏/프로그래머스) 그리고 구조화 데이터가 깨졌거나 없는 페이지가
+ * RemodelBuildService.extractSections 의 DOM/텍스트 경로로 넘어가는지.
+ */
+class StructuredPostingExtractorsTest {
+
+    private MeterRegistry meters;
+    private StructuredPostingExtractors extractors;
+    private RemodelBuildService build;
+
+    @BeforeEach
+    void setUp() {
+        meters = new SimpleMeterRegistry();
+        // 빈 등록 순서와 같게 (@Order: next-data 10, json-ld 100)
+        extractors = new StructuredPostingExtractors(List.of(new NextDataPostingExtractor(), new JsonLdPostingExtractor()), meters);
+        // 섹션 추출 경로만 쓰므로 나머지 의존성은 비워 둔다
+        build = new RemodelBuildService(null, null, null, null, extractors, null, null);
+        ReflectionTestUtils.setField(build, "extractMode", "dom");
+    }
+
+    @Test
+    void jsonLdDescriptionHtmlIsSplitIntoSections() throws IOException {
+        String html = read("saramin-jsonld.html");
+
+        JobReqPref rp = extractors.extract("https://www.saramin.co.kr/zf_user/jobs/view?rec_idx=1", html).orElseThrow();
+
+        assertEquals(List.of(
+                "Java, Spring Boot 기반 서버 개발 경험 3년 이상",
+                "JPA 와 관계형 데이터베이스 설계 경험",
+                "REST API 설계 및 문서화 경험"), rp.getRequired());
+        assertEquals(List.of(
+                "Kafka 등 메시지 큐 운영 경험",
+                "AWS 환경에서 서비스 운영 경험"), rp.getPreferred());
+        assertEquals(1, count("json-ld", "hit"));
+        assertEquals(0, count("next-data", "miss"));
+    }
+
+    @Test
+    void jsonLdSchemaFieldsAreUsedWhenDescriptionHasNoSections() throws IOException {
+        String html = read("jobkorea-jsonld-fields.html");
+
+        JobReqPref rp = extractors.extract("https://www.jobkorea.co.kr/Recruit/GI_Read/1", html).orElseThrow();
+
+        assertEquals(List.of(
+                "Python 또는 Scala 기반 데이터 파이프라인 개발 경험",
+                "Spark, Airflow 운영 경험",
+                "SQL 튜닝 경험",
+                "경력 3년 이상"), rp.getRequired());
+        assertEquals(List.of(), rp.getPreferred());
+    }
+
+    @Test
+    void wantedNextDataUsesTheFirstPostingOnly() throws IOException {
+        String html = read("wanted-next.html");
+
+        JobReqPref rp = extractors.extract("https://www.wanted.co.kr/wd/123456", html).orElseThrow();
+
+        assertEquals(List.of(
+                "React, TypeScript 기반 개발 경험 3년 이상",
+                "브라우저 렌더링과 웹 성능에 대한 이해",
+                "코드 리뷰와 테스트 작성에 익숙하신 분"), rp.getRequired());
+        assertEquals(List.of(
+                "Next.js SSR 서비스 운영 경험",
+                "웹 접근성 개선 경험"), rp.getPreferred());
+        assertEquals(1, count("next-data", "hit"));
+        assertEquals(0, count("json-ld", "miss"));
+    }
+
+    @Test
+    void jumpitNextDataReadsStringArrays() throws IOException {
+        String html = read("jumpit-next.html");
+
+        JobReqPref rp = extractors.extract("https://jumpit.saramin.co.kr/position/1", html).orElseThrow();
+
+        assertEquals(List.of(
+                "Go 또는 Java 로 서버를 개발한 경험",
+                "Kubernetes 환경 배포 경험",
+                "분산 시스템에 대한 이해"), rp.getRequired());
+        assertEquals(List.of(
+                "gRPC 서비스 설계 경험",
+                "Prometheus 모니터링 구축 경험"), rp.getPreferred());
+    }
+
+    @Test
+    void programmersNextDataHandlesCrLfItems() throws IOException {
+        String html = read("programmers-next.html");
+
+        JobReqPref rp = extractors.extract("https://career.programmers.co.kr/job_positions/9876", html).orElseThrow();
+
+        assertEquals(List.of(
+                "Kotlin 기반 안드로이드 앱 개발 경험",
+                "Jetpack Compose 사용 경험",
+                "앱 출시 및 운영 경험"), rp.getRequired());
+        assertEquals(List.of(
+                "멀티 모듈 구조 설계 경험",
+                "CI/CD 구축 경험"), rp.getPreferred());
+    }
+
+    @Test
+    void siteSpecificExtractorNeedsTheHost() throws IOException {
+        // 붙여넣은 HTML(url 없음)에는 사이트 전용 추출기를 쓰지 않는다
+        assertEquals(Optional.empty(), extractors.extract(null, read("wanted-next.html")));
+        assertEquals(0, count("next-data", "hit") + count("next-data", "miss"));
+        assertEquals(1, count("json-ld", "miss"));
+    }
+
+    @Test
+    void brokenStructuredDataFallsBackToDom() throws IOException {
+        String html = read("broken-structured.html");
+        String url = "https://www.wanted.co.kr/wd/555";
+
+        assertTrue(StructuredPostingExtractors.mayContain(html.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(Optional.empty(), extractors.extract(url, html));
+        assertEquals(1, count("next-data", "miss"));
+        assertEquals(1, count("json-ld", "miss"));
+
+        JobReqPref rp = build.extractSections(url, html);
+
+        assertEquals(List.of(
+                "Terraform 으로 인프라를 관리한 경험",
+                "Linux 서버 운영 경험 3년 이상",
+                "Docker 와 Kubernetes 운영 경험"), rp.getRequired());
+        assertEquals(List.of(
+                "ArgoCD 기반 배포 자동화 경험",
+                "온콜 대응 프로세스 구축 경험"), rp.getPreferred());
+    }
+
+    @Test
+    void missingStructuredDataFallsBackToText() throws IOException {
+        String html = read("no-structured.html");
+
+        assertFalse(StructuredPostingExtractors.mayContain(html.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(Optional.empty(), extractors.extract("https://recruit.example.com/notice/1", html));
+
+        JobReqPref rp = build.extractSections("https://recruit.example.com/notice/1", html);
+
+        // 섹션이 없으면 정제한 전체 텍스트를 자격요건 하나로 넘긴다
+        assertEquals(List.of("회사 소개 - 채용 게시판 저희 회사는 물류 자동화 솔루션을 만듭니다. "
+                + "함께 일할 동료를 상시 모집하고 있으며 자세한 내용은 메일로 문의해 주세요."), rp.getRequired());
+        assertEquals(List.of(), rp.getPreferred());
+    }
+
+    private int count(String extractor, String result) {
+        return (int) meters.counter("posting.structured.extract", "extractor", extractor, "result", result).count();
+    }
+
+    private static String read(String name) throws IOException {
+        try (InputStream in = StructuredPostingExtractorsTest.class.getClassLoader().getResourceAsStream("postings/html/" + name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+// src/test/java/com/example/portfolioai/util/PostingUrlsTest.java
+package com.example.portfolioai.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * canonicalize 는 같은 공고(모바일/데스크톱, http/https)를 하나로 접고,
+ * cacheKey 는 응답이 다를 수 있는 URL 을 접지 않고 utm_* 와 클릭 ID 만 뺀다.
+ */
+class PostingUrlsTest {
+
+    @Test
+    void canonicalizeFoldsHostsForDedupe() {
+        String desktop = PostingUrls.canonicalize("https://www.saramin.co.kr/zf_user/jobs/view?rec_idx=123&utm_source=kakao");
+        String mobile = PostingUrls.canonicalize("http://m.saramin.co.kr/zf_user/jobs/view/?gclid=abc&rec_idx=123");
+
+        assertEquals("https://saramin.co.kr/zf_user/jobs/view?rec_idx=123", desktop);
+        assertEquals(desktop, mobile);
+    }
+
+    @Test
+    void cacheKeyKeepsHostSchemeAndPath() {
+        String desktop = PostingUrls.cacheKey("https://www.saramin.co.kr/zf_user/jobs/view?rec_idx=123");
+        String mobile = PostingUrls.cacheKey("https://m.saramin.co.kr/zf_user/jobs/view?rec_idx=123");
+
+        assertNotEquals(desktop, mobile);
+        assertNotEquals(PostingUrls.cacheKey("http://example.com/jobs/1"), PostingUrls.cacheKey("https://example.com/jobs/1"));
+        assertNotEquals(PostingUrls.cacheKey("https://example.com/jobs/1"), PostingUrls.cacheKey("https://example.com/jobs/1/"));
+    }
+
+    @Test
+    void cacheKeyDropsOnlyUtmAndClickIds() {
+        assertEquals("https://example.com:8443/jobs?a=1&b=2",
+                PostingUrls.cacheKey("HTTPS://Example.COM:8443/jobs?b=2&utm_medium=mail&fbclid=x&a=1#apply"));
+        assertEquals("https://example.com/jobs", PostingUrls.cacheKey("https://example.com:443/jobs?_ga=1.2"));
+    }
+
+    @Test
+    void refAndSourceAreKept() {
+        // 사이트에 따라 공고를 가리키는 값일 수 있으므로 둘 다 남긴다
+        assertEquals("https://example.com/view?ref=42&source=7",
+                PostingUrls.canonicalize("https://example.com/view?source=7&ref=42"));
+        assertEquals("https://example.com/view?ref=42&source=7",
+                PostingUrls.cacheKey("https://example.com/view?source=7&ref=42"));
+    }
+}